@@ -0,0 +1,282 @@
+package com.coffee.entity;
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.PooledEngine;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.ObjectIntMap;
+import com.badlogic.gdx.utils.ObjectMap;
+import com.badlogic.gdx.utils.ObjectSet;
+import com.badlogic.gdx.utils.Pool;
+import com.badlogic.gdx.utils.ReflectionPool;
+import com.badlogic.gdx.utils.reflect.ClassReflection;
+import com.badlogic.gdx.utils.reflect.Field;
+import com.badlogic.gdx.utils.reflect.ReflectionException;
+
+/**
+ * {@link PooledEngine} that keeps its pools in check. Each kind of component can be given its own cap on how many
+ * unused components its pool holds, every pool keeps track of how many of its objects are in use and the most that
+ * have been at once, and pools let go of the objects they haven't needed for a while.
+ * <p>
+ * The shrink policy works in windows of {@link #getShrinkDelay()} seconds. At the end of each window, a pool keeps only
+ * as many free objects as it would have needed to get back up to the most that were in use during the window, so one
+ * busy stretch doesn't keep its memory around for the rest of the session, while a pool that keeps being used as much
+ * as before doesn't lose anything.
+ */
+public class BoundedPooledEngine extends PooledEngine {
+    /** The default length of a shrink window, in seconds. */
+    public static final float SHRINK_DELAY = 60;
+
+    private final ObjectMap<Class<?>, ReflectionPool<?>> POOLS;
+    private final Pool<?> ENTITY_POOL;
+    private final ObjectIntMap<Class<?>> CAPS = new ObjectIntMap<>();
+    private final Array<TrackedPool<?>> TRACKED = new Array<>(false, 16);
+    private final CommandBuffer COMMANDS = new CommandBuffer();
+    private final int INITIAL_SIZE, MAX_SIZE;
+
+    private float shrinkDelay = SHRINK_DELAY, shrinkTimer;
+    private int entityLive, entityHighWater, entityWindowPeak;
+
+    public BoundedPooledEngine() {
+        this(10, 100, 10, 100);
+    }
+
+    /**
+     * @param entityPoolInitialSize    initial number of pre-allocated entities
+     * @param entityPoolMaxSize        maximum number of pooled entities
+     * @param componentPoolInitialSize initial size for each component type pool
+     * @param componentPoolMaxSize     maximum size for each component type pool that hasn't been given its own cap
+     */
+    @SuppressWarnings("unchecked")
+    public BoundedPooledEngine(int entityPoolInitialSize, int entityPoolMaxSize, int componentPoolInitialSize, int componentPoolMaxSize) {
+        super(entityPoolInitialSize, entityPoolMaxSize, componentPoolInitialSize, componentPoolMaxSize);
+
+        INITIAL_SIZE = componentPoolInitialSize;
+        MAX_SIZE = componentPoolMaxSize;
+
+        // Ashley keeps its pools to itself, so reach in for them once
+        try {
+            Object componentPools = read(PooledEngine.class, this, "componentPools");
+            POOLS = (ObjectMap<Class<?>, ReflectionPool<?>>) read(componentPools.getClass(), componentPools, "pools");
+            ENTITY_POOL = (Pool<?>) read(PooledEngine.class, this, "entityPool");
+        } catch (ReflectionException e) {
+            throw new GdxRuntimeException("Could not get at the pools of the engine, Ashley might have changed", e);
+        }
+    }
+
+    /**
+     * Sets how many unused components of the specified type can be kept in its pool. Components that are in the pool
+     * already are let go of if the cap is changed after the pool was made.
+     *
+     * @param type the class of the component
+     * @param max  the most unused components to keep
+     */
+    public void setPoolCap(Class<? extends Component> type, int max) {
+        CAPS.put(type, max);
+
+        TrackedPool<?> old = (TrackedPool<?>) POOLS.get(type);
+        if (old != null) {
+            TRACKED.removeValue(old, true);
+            POOLS.remove(type);
+
+            TrackedPool<?> pool = pool(type);
+            pool.OUT.addAll(old.OUT);
+            pool.highWater = old.highWater;
+            pool.windowPeak = old.windowPeak;
+        }
+    }
+
+    /**
+     * Gives a component back to its pool without it ever having been on an entity, like one that was going to be added
+     * to an entity that was despawned first.
+     *
+     * @param component the {@link Component} to free
+     */
+    @SuppressWarnings("unchecked")
+    public void freeComponent(Component component) {
+        ((Pool<Object>) pool(component.getClass())).free(component);
+    }
+
+    /**
+     * Gets the {@link CommandBuffer} systems and handlers record their changes to the entities in. It is flushed at the
+     * start and at the end of every {@link #update(float)}, so changes recorded between updates are made before any
+     * system runs, and changes recorded during one are made once every system has run.
+     *
+     * @return the {@code CommandBuffer} of this engine
+     */
+    public CommandBuffer getCommands() {
+        return COMMANDS;
+    }
+
+    /**
+     * @param delay how long a window of the shrink policy is, in seconds, or 0 to never shrink the pools
+     */
+    public void setShrinkDelay(float delay) {
+        shrinkDelay = delay;
+        shrinkTimer = 0;
+    }
+
+    /**
+     * @return how long a window of the shrink policy is, in seconds
+     */
+    public float getShrinkDelay() {
+        return shrinkDelay;
+    }
+
+    /**
+     * @param type the class of the component
+     * @return how many components of that type are taken out of the pool right now
+     */
+    public int getLiveCount(Class<? extends Component> type) {
+        return pool(type).OUT.size;
+    }
+
+    /**
+     * @param type the class of the component
+     * @return the most components of that type that have been out of the pool at once
+     */
+    public int getHighWater(Class<? extends Component> type) {
+        return pool(type).highWater;
+    }
+
+    /**
+     * @param type the class of the component
+     * @return how many unused components of that type are in the pool
+     */
+    public int getFreeCount(Class<? extends Component> type) {
+        return pool(type).getFree();
+    }
+
+    /**
+     * @return how many entities are taken out of the pool right now
+     */
+    public int getLiveEntityCount() {
+        return entityLive;
+    }
+
+    /**
+     * @return the most entities that have been out of the pool at once
+     */
+    public int getEntityHighWater() {
+        return entityHighWater;
+    }
+
+    /**
+     * @return how many unused entities are in the pool
+     */
+    public int getFreeEntityCount() {
+        return ENTITY_POOL.getFree();
+    }
+
+    @Override
+    public Entity createEntity() {
+        entityLive++;
+        entityHighWater = Math.max(entityHighWater, entityLive);
+        entityWindowPeak = Math.max(entityWindowPeak, entityLive);
+        return super.createEntity();
+    }
+
+    @Override
+    protected void removeEntityInternal(Entity entity) {
+        super.removeEntityInternal(entity);
+
+        // Only pooled entities go back into the pool, and those are never plain entities
+        if (entity.getClass() != Entity.class && entityLive > 0)
+            entityLive--;
+    }
+
+    @Override
+    public <T extends Component> T createComponent(Class<T> componentType) {
+        // Make sure the component comes from a tracked pool, and goes back to it
+        pool(componentType);
+        return super.createComponent(componentType);
+    }
+
+    @Override
+    public void update(float deltaTime) {
+        COMMANDS.flush(this);
+        super.update(deltaTime);
+        COMMANDS.flush(this);
+
+        if (shrinkDelay > 0 && (shrinkTimer += deltaTime) >= shrinkDelay) {
+            shrinkTimer = 0;
+
+            for (TrackedPool<?> pool : TRACKED) {
+                pool.shrink(pool.windowPeak - pool.OUT.size);
+                pool.windowPeak = pool.OUT.size;
+            }
+
+            // Entities that are taken out of the pool and never added to the engine just get collected
+            for (int i = ENTITY_POOL.getFree() - Math.max(entityWindowPeak - entityLive, 0); i > 0; i--)
+                ENTITY_POOL.obtain();
+            entityWindowPeak = entityLive;
+        }
+    }
+
+    private TrackedPool<?> pool(Class<?> type) {
+        TrackedPool<?> pool = (TrackedPool<?>) POOLS.get(type);
+
+        if (pool == null) {
+            pool = new TrackedPool<>(type, INITIAL_SIZE, CAPS.get(type, MAX_SIZE));
+            POOLS.put(type, pool);
+            TRACKED.add(pool);
+        }
+
+        return pool;
+    }
+
+    private static Object read(Class<?> type, Object owner, String name) throws ReflectionException {
+        Field field = ClassReflection.getDeclaredField(type, name);
+        field.setAccessible(true);
+
+        Object value = field.get(owner);
+        if (value == null)
+            throw new GdxRuntimeException("Field " + name + " of " + type.getName() + " is not set");
+        return value;
+    }
+
+    /**
+     * {@link ReflectionPool} that counts how many of the objects it handed out are still out. Objects that are freed
+     * into it without having come out of it, like components made with {@code new}, aren't counted.
+     */
+    private static class TrackedPool<T> extends ReflectionPool<T> {
+        private final ObjectSet<Object> OUT = new ObjectSet<>();
+        private int highWater, windowPeak;
+
+        private TrackedPool(Class<T> type, int initialCapacity, int max) {
+            super(type, initialCapacity, max);
+        }
+
+        @Override
+        public T obtain() {
+            final T OBJECT = super.obtain();
+
+            OUT.add(OBJECT);
+            highWater = Math.max(highWater, OUT.size);
+            windowPeak = Math.max(windowPeak, OUT.size);
+            return OBJECT;
+        }
+
+        @Override
+        public void free(T object) {
+            OUT.remove(object);
+            super.free(object);
+        }
+
+        @Override
+        public void freeAll(Array<T> objects) {
+            for (int i = 0; i < objects.size; i++)
+                OUT.remove(objects.get(i));
+            super.freeAll(objects);
+        }
+
+        /**
+         * Lets go of free objects until the pool holds no more than the specified amount.
+         */
+        private void shrink(int keep) {
+            for (int i = getFree() - Math.max(keep, 0); i > 0; i--)
+                super.obtain();
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package com.coffee.entity;
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.ashley.core.Engine;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ByteArray;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.ObjectSet;
+
+/**
+ * Records changes to the entities of an {@link Engine} so they can be made all at once later, instead of one at a time
+ * while the engine's families are being iterated. Systems and handlers write spawn, despawn, add-component and
+ * remove-component commands into the buffer, and {@link #flush(Engine)} carries them out at a sync point.
+ * <p>
+ * A flush carries the commands out in the order they were recorded, each one straight on the engine. An entity is
+ * only spawned or despawned once per flush, however many times it was recorded, and one that is despawned in the same
+ * flush is never added at all. Component changes to an entity that is being despawned in the same flush are skipped,
+ * since the entity loses all of its components anyway, and components that were going to be added to it are given
+ * back to the pools of a {@link BoundedPooledEngine}.
+ * <p>
+ * Recording a command never touches the engine, but a buffer isn't synchronized. Code that runs off the main thread
+ * should record into a buffer of its own, and hand that to {@link #flush(Engine)} on the main thread.
+ */
+public class CommandBuffer {
+    private static final byte SPAWN = 0, DESPAWN = 1, ADD = 2, REMOVE = 3;
+    // Commands recorded while flushing are flushed too, but not forever
+    private static final int MAX_ROUNDS = 8;
+
+    private final ByteArray OPS = new ByteArray();
+    private final Array<Entity> ENTITIES = new Array<>();
+    private final Array<Object> ARGS = new Array<>();
+
+    // What is being flushed, so commands can keep being recorded while it happens
+    private final ByteArray FLUSH_OPS = new ByteArray();
+    private final Array<Entity> FLUSH_ENTITIES = new Array<>();
+    private final Array<Object> FLUSH_ARGS = new Array<>();
+
+    private final ObjectSet<Entity> DESPAWNED = new ObjectSet<>();
+    private final ObjectSet<Entity> SPAWNED = new ObjectSet<>();
+    private final ObjectSet<Entity> REMOVED = new ObjectSet<>();
+
+    /**
+     * Gets the buffer the specified engine flushes on its own, at the start and end of every update.
+     *
+     * @param engine a {@link BoundedPooledEngine}
+     * @return the {@code CommandBuffer} of the engine
+     * @throws GdxRuntimeException if the engine doesn't keep a {@code CommandBuffer}
+     */
+    public static CommandBuffer of(Engine engine) {
+        if (engine instanceof BoundedPooledEngine)
+            return ((BoundedPooledEngine) engine).getCommands();
+
+        throw new GdxRuntimeException("Engine doesn't keep a CommandBuffer: " + engine);
+    }
+
+    /**
+     * @param entity the {@link Entity} to add to the engine
+     * @return this buffer for chaining
+     */
+    public CommandBuffer spawn(Entity entity) {
+        return record(SPAWN, entity, null);
+    }
+
+    /**
+     * @param entity the {@link Entity} to take out of the engine
+     * @return this buffer for chaining
+     */
+    public CommandBuffer despawn(Entity entity) {
+        return record(DESPAWN, entity, null);
+    }
+
+    /**
+     * @param entity    the {@link Entity} to add the component to
+     * @param component the {@link Component} to add
+     * @return this buffer for chaining
+     */
+    public CommandBuffer add(Entity entity, Component component) {
+        return record(ADD, entity, component);
+    }
+
+    /**
+     * @param entity the {@link Entity} to remove the component from
+     * @param type   the class of the {@link Component} to remove
+     * @return this buffer for chaining
+     */
+    public CommandBuffer remove(Entity entity, Class<? extends Component> type) {
+        return record(REMOVE, entity, type);
+    }
+
+    /**
+     * @return how many commands are waiting to be flushed
+     */
+    public int size() {
+        return OPS.size;
+    }
+
+    /**
+     * @return whether or not there is nothing to flush
+     */
+    public boolean isEmpty() {
+        return OPS.size == 0;
+    }
+
+    /**
+     * Throws away every command that hasn't been flushed yet.
+     */
+    public void clear() {
+        OPS.clear();
+        ENTITIES.clear();
+        ARGS.clear();
+    }
+
+    /**
+     * Carries out every recorded command on the specified engine. This should be called on the engine's thread, and
+     * outside of {@link Engine#update(float)}, so each change is made right away instead of being delayed by Ashley.
+     *
+     * @param engine the {@link Engine} to change
+     */
+    @SuppressWarnings("unchecked")
+    public void flush(Engine engine) {
+        for (int round = 0; round < MAX_ROUNDS && OPS.size > 0; round++) {
+            FLUSH_OPS.addAll(OPS);
+            FLUSH_ENTITIES.addAll(ENTITIES);
+            FLUSH_ARGS.addAll(ARGS);
+            clear();
+
+            for (int i = 0; i < FLUSH_OPS.size; i++) {
+                if (FLUSH_OPS.get(i) == DESPAWN)
+                    DESPAWNED.add(FLUSH_ENTITIES.get(i));
+            }
+
+            for (int i = 0; i < FLUSH_OPS.size; i++) {
+                final Entity E = FLUSH_ENTITIES.get(i);
+
+                switch (FLUSH_OPS.get(i)) {
+                    case SPAWN:
+                        // An entity that is spawned and despawned in the same flush never makes it into the engine
+                        if (!DESPAWNED.contains(E) && SPAWNED.add(E))
+                            engine.addEntity(E);
+                        break;
+                    case DESPAWN:
+                        // Taking out an entity that was never added only gives it back to the engine's pools
+                        if (REMOVED.add(E) && !E.isScheduledForRemoval())
+                            engine.removeEntity(E);
+                        break;
+                    case ADD:
+                        if (!DESPAWNED.contains(E))
+                            E.add((Component) FLUSH_ARGS.get(i));
+                        else if (engine instanceof BoundedPooledEngine)
+                            ((BoundedPooledEngine) engine).freeComponent((Component) FLUSH_ARGS.get(i));
+                        break;
+                    case REMOVE:
+                        if (!DESPAWNED.contains(E))
+                            E.remove((Class<? extends Component>) FLUSH_ARGS.get(i));
+                        break;
+                }
+            }
+
+            DESPAWNED.clear();
+            SPAWNED.clear();
+            REMOVED.clear();
+            FLUSH_OPS.clear();
+            FLUSH_ENTITIES.clear();
+            FLUSH_ARGS.clear();
+        }
+    }
+
+    private CommandBuffer record(byte op, Entity entity, Object arg) {
+        OPS.add(op);
+        ENTITIES.add(entity);
+        ARGS.add(arg);
+        return this;
+    }
+}
@@ -0,0 +1,244 @@
+package com.coffee.entity;
+
+import com.badlogic.ashley.core.*;
+import com.badlogic.ashley.utils.ImmutableArray;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.TimeUtils;
+import com.badlogic.gdx.utils.viewport.Viewport;
+import com.coffee.entity.components.*;
+import com.coffee.entity.systems.*;
+import com.coffee.util.BossActions;
+import com.coffee.util.Mapper;
+
+import java.util.function.Function;
+
+/**
+ * Gets a {@link PooledEngine} ready for a boss fight while the fight is counting down. Every kind of
+ * {@link BossActions.Action} is run for a while in a throwaway engine, which gets the code they go through compiled
+ * by the JIT before it is needed and measures how many of each pooled component they have out at once. Once that is
+ * done, the pools of the real engine are filled up to those high-water marks, so the first time an attack is used
+ * doesn't have to grow them.
+ * <p>
+ * The measurements are kept for as long as the game runs, so only the first fight has to run the attacks.
+ */
+public class EngineWarmer {
+    /** The longest each attack is run for, in seconds. */
+    public static final float ATTACK_LENGTH = 6;
+    private static final float STEP = 1 / 60f;
+
+    // The components that get pooled by the entities that come and go during a fight
+    private static final Array<Class<? extends Component>> POOLED = new Array<>();
+
+    static {
+        POOLED.add(TransformComponent.class);
+        POOLED.add(SpriteComponent.class);
+        POOLED.add(MovementComponent.class);
+        POOLED.add(ColliderComponent.class);
+        POOLED.add(BulletComponent.class);
+        POOLED.add(LifetimeComponent.class);
+    }
+
+    // Measured high-water marks, shared by every warmer
+    private static final int[] PEAKS = new int[POOLED.size];
+    private static int entityPeak, bulletPeak, attacksRun;
+
+    private final PooledEngine TARGET;
+    private final Viewport VIEWPORT;
+    private final Array<Function<Engine, BossActions.Action>> ATTACKS = new Array<>();
+    private final int[] COUNTS = new int[POOLED.size];
+    private final Array<ImmutableArray<Entity>> FAMILIES = new Array<>();
+
+    private BoundedPooledEngine scratch;
+    private ImmutableArray<Entity> bullets;
+    private Entity boss;
+    private BossActions.Action attack;
+    private float elapsed;
+    private boolean done;
+
+    /**
+     * @param target the {@link PooledEngine} the fight is going to happen in
+     * @param v      the {@link Viewport} of the game
+     */
+    public EngineWarmer(PooledEngine target, Viewport v) {
+        TARGET = target;
+        VIEWPORT = v;
+
+        // Let the stars fill the screen before anything is measured, since they are always there
+        ATTACKS.add(e -> new BossActions.DoNothing(5));
+
+        ATTACKS.add(BossActions.ShotgunSpray::new);
+        ATTACKS.add(BossActions.SimpleSpiralAttack::new);
+        ATTACKS.add(e -> new BossActions.SimpleLaserAttack(e, VIEWPORT));
+        ATTACKS.add(BossActions.InvisibleHomingBulletsAttack::new);
+        ATTACKS.add(BossActions.TempestBloom::new);
+        ATTACKS.add(BossActions.SimpleConeAttack::new);
+        ATTACKS.add(BossActions.HomingBulletCircleAttack::new);
+        ATTACKS.add(e -> new BossActions.TripleLaserBallAttack(e, VIEWPORT));
+        ATTACKS.add(e -> new BossActions.QuadLaserBallAttack(e, 0));
+        ATTACKS.add(BossActions.ShiftingSpiralAttack::new);
+        ATTACKS.add(BossActions.ReverseShiftingSpiralAttack::new);
+        ATTACKS.add(BossActions.ImperishableNight::new);
+        ATTACKS.add(BossActions.SpringBlossom::new);
+        ATTACKS.add(e -> new BossActions.HelixLaserAttack(e, VIEWPORT));
+        ATTACKS.add(e -> new BossActions.HelixPlusAttack(e, VIEWPORT));
+        ATTACKS.add(BossActions.LunaticGun::new);
+        ATTACKS.add(BossActions.SpiralColumnAttack::new);
+        ATTACKS.add(BossActions.AsteroidField::new);
+        ATTACKS.add(BossActions.PlusBeam::new);
+        ATTACKS.add(BossActions.XBeam::new);
+        ATTACKS.add(BossActions.StarBeam::new);
+    }
+
+    /**
+     * Runs the attacks for up to the specified amount of real time, picking up where the last call left off.
+     *
+     * @param budget how long to run for, in seconds
+     * @return whether or not every attack has been run
+     */
+    public boolean update(float budget) {
+        if (done || attacksRun >= ATTACKS.size)
+            return true;
+
+        final long END = TimeUtils.nanoTime() + (long) (budget * 1e9);
+
+        if (scratch == null)
+            start();
+
+        try {
+            EntityFactory.setEngine(scratch);
+
+            while (attacksRun < ATTACKS.size && TimeUtils.nanoTime() < END) {
+                if (attack == null) {
+                    attack = ATTACKS.get(attacksRun).apply(scratch);
+                    elapsed = 0;
+                }
+
+                boolean finished = attack.act(boss, STEP);
+                scratch.update(STEP);
+                elapsed += STEP;
+                measure();
+
+                if (finished || elapsed >= ATTACK_LENGTH)
+                    nextAttack();
+            }
+        } finally {
+            EntityFactory.setEngine(TARGET);
+        }
+
+        return attacksRun >= ATTACKS.size;
+    }
+
+    /**
+     * Stops running attacks and fills the pools of the engine up to the high-water marks measured so far.
+     * Does nothing if it has already been called.
+     */
+    public void finish() {
+        if (done)
+            return;
+
+        if (scratch != null) {
+            // The player and the boss each made a Stage for their GUI, which pooling doesn't get rid of
+            final ImmutableArray<Entity> GUIS = scratch.getEntitiesFor(Family.all(GUIComponent.class).get());
+            for (int i = 0; i < GUIS.size(); i++) {
+                final GUIComponent GUI = Mapper.GUI.get(GUIS.get(i));
+
+                if (GUI.canvas != null)
+                    GUI.canvas.dispose();
+            }
+
+            scratch.removeAllEntities();
+            scratch = null;
+            bullets = null;
+            boss = null;
+            attack = null;
+            FAMILIES.clear();
+        }
+
+        reserve();
+        done = true;
+    }
+
+    private void start() {
+        scratch = new BoundedPooledEngine();
+        scratch.addSystem(new TimerSystem());
+        scratch.addSystem(new SpawnerSystem(scratch));
+        scratch.addSystem(new MovementSystem(VIEWPORT));
+        scratch.addSystem(new HealthSystem());
+        scratch.addSystem(new LifetimeSystem());
+        scratch.addSystem(new BulletSystem(VIEWPORT));
+        scratch.addSystem(new BulletWorld(VIEWPORT));
+        scratch.addSystem(new CollisionSystem(VIEWPORT));
+
+        for (Class<? extends Component> type : POOLED)
+            FAMILIES.add(scratch.getEntitiesFor(Family.all(type).get()));
+        bullets = scratch.getEntitiesFor(Family.all(BulletComponent.class).get());
+
+        EntityFactory.setEngine(scratch);
+        boss = EntityFactory.createBossShip(VIEWPORT.getWorldWidth() / 2, VIEWPORT.getWorldHeight() * 2 / 3 + 64);
+        scratch.addEntity(EntityFactory.createPlayer(VIEWPORT.getWorldWidth() / 2f, 128));
+        scratch.addEntity(boss);
+        scratch.addEntity(EntityFactory.createParticleGenerator());
+        EntityFactory.setEngine(TARGET);
+    }
+
+    private void measure() {
+        for (int i = 0; i < FAMILIES.size; i++)
+            PEAKS[i] = Math.max(PEAKS[i], FAMILIES.get(i).size());
+
+        entityPeak = Math.max(entityPeak, scratch.getEntities().size());
+        bulletPeak = Math.max(bulletPeak, scratch.getSystem(BulletWorld.class).size());
+    }
+
+    private void nextAttack() {
+        // Clear out what is left of the attack, but keep the stars
+        while (bullets.size() > 0)
+            scratch.removeEntity(bullets.first());
+        scratch.getSystem(BulletWorld.class).clear();
+
+        // Some attacks move the boss around
+        Mapper.TRANSFORM.get(boss).POSITION.set(
+                VIEWPORT.getWorldWidth() / 2 - Mapper.TRANSFORM.get(boss).ORIGIN.x,
+                VIEWPORT.getWorldHeight() * 2 / 3 + 64 - Mapper.TRANSFORM.get(boss).ORIGIN.y
+        );
+
+        attack = null;
+        attacksRun++;
+    }
+
+    /**
+     * Takes as many entities and components out of the pools of the engine as were measured to be out at once, then
+     * gives them all back, so the pools end up holding that many.
+     */
+    private void reserve() {
+        int entities = entityPeak - TARGET.getEntities().size();
+
+        for (int i = 0; i < POOLED.size; i++) {
+            COUNTS[i] = PEAKS[i] - TARGET.getEntitiesFor(Family.all(POOLED.get(i)).get()).size();
+            entities = Math.max(entities, COUNTS[i]);
+        }
+
+        final Array<Entity> RESERVED = new Array<>(false, Math.max(entities, 1));
+
+        for (int e = 0; e < entities; e++) {
+            final Entity E = TARGET.createEntity();
+
+            for (int i = 0; i < POOLED.size; i++) {
+                if (e < COUNTS[i])
+                    E.add(TARGET.createComponent(POOLED.get(i)));
+            }
+            RESERVED.add(E);
+        }
+
+        // Components taken off an entity that isn't in an engine go straight back into their pools, while the
+        // entities themselves only go back once they are removed from the engine
+        for (Entity e : RESERVED) {
+            e.removeAll();
+            TARGET.addEntity(e);
+            TARGET.removeEntity(e);
+        }
+
+        BulletWorld world = TARGET.getSystem(BulletWorld.class);
+        if (world != null)
+            world.reserve(bulletPeak);
+    }
+}
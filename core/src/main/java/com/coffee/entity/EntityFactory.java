@@ -21,6 +21,9 @@ import com.badlogic.gdx.utils.Align;
 import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.viewport.Viewport;
 import com.coffee.entity.components.*;
+import com.coffee.entity.systems.CollisionSystem;
+import com.coffee.entity.systems.QualityGovernor;
+import com.coffee.entity.systems.SpawnScheduler;
 import com.coffee.main.Application;
 import com.coffee.util.*;
 
@@ -37,6 +40,14 @@ public class EntityFactory {
     private static Skin uiSkin;
     private static PooledEngine engine;
 
+    // Templates of everything that gets spawned over and over, built once in init()
+    private static Prefab
+        playerBullet, enemyBullet, shotgunBlast, laserEmitter, homingBullet, enemyBall, explodingBall, emitterBall,
+        beam, powerUp, star, shootingStar, background;
+
+    // Scratch color for the tints of stars, which are copied into their sprites
+    private static final Color TINT = new Color();
+
     // Boolean to check if the factory has already been pre-initialized.
     private static boolean initialized = false;
 
@@ -55,10 +66,138 @@ public class EntityFactory {
             goAtlas = Assets.MANAGER.get(Assets.GameObjects.ATLAS);
             uiSkin = Assets.MANAGER.get(Assets.UI.SKIN);
 
+            initPrefabs();
+
             initialized = true;
         }
     }
 
+    /**
+     * Builds the {@link Prefab}s of everything that gets spawned over and over,
+     * so the sprites only have to be looked up and set up once.
+     */
+    private static void initPrefabs() {
+        Sprite main;
+
+        // Player bullet
+        main = goAtlas.createSprite("bullet");
+        main.setOrigin(main.getWidth(), main.getHeight() / 2);
+        playerBullet = new Prefab(main)
+            .zIndex(-10)
+            .movement(10, 1, 0)
+            .collider(ColliderShape.box(4, 4), false, CollisionLayer.PLAYER_BULLET, CollisionLayer.BOSS, CollisionHandlers.PLAYER_BULLET)
+            .bullet(null, 10, 0);
+
+        // Enemy bullets
+        main = goAtlas.createSprite("bullet_large");
+        main.setSize(24, 24);
+        main.setOriginCenter();
+        enemyBullet = createEnemyPrefab(main, 4, 8, CollisionHandlers.ENEMY_BULLET);
+
+        // These two grow in from nothing
+        main = createEnergyBall(64, Color.CYAN);
+        main.setScale(0);
+        shotgunBlast = createEnemyPrefab(main, 0, 64 / 1.41421356f / 2, CollisionHandlers.SHOTGUN_BLAST)
+            .bullet(BulletHandlers.SHOTGUN_BLAST, 10, 0);
+
+        main = createEnergyBall(48, Color.CYAN);
+        main.setScale(0);
+        laserEmitter = createEnemyPrefab(main, 0, 48 / 1.41421356f / 2, CollisionHandlers.LASER_EMITTER)
+            .bullet(BulletHandlers.LASER_EMITTER, 10, -1);
+
+        homingBullet = createEnemyPrefab(createEnergyBall(24, new Color(122 / 255f, 1, 104 / 255f, 1)), 4, 8, CollisionHandlers.ENEMY_BULLET)
+            .bullet(BulletHandlers.HOMING, 5, 0);
+
+        enemyBall = createEnemyPrefab(createEnergyBall(16, new Color(191 / 255f, 106 / 255f, 221 / 255f, 1)), 3, 16 / 1.41421356f / 2, CollisionHandlers.ENEMY_BULLET);
+
+        explodingBall = createEnemyPrefab(createEnergyBall(32, Color.CHARTREUSE), 3, 32 / 1.41421356f / 2, CollisionHandlers.ENEMY_BULLET)
+            .bullet(BulletHandlers.EXPLODING_BALL, 10, 0);
+
+        emitterBall = createEnemyPrefab(createEnergyBall(64, Color.CHARTREUSE), 2, 64 / 1.41421356f / 2, CollisionHandlers.ENEMY_BULLET)
+            .bullet(BulletHandlers.EMITTER_BALL, 10, 0);
+
+        // Beams are spawned one unit thick and scaled by their width
+        main = goAtlas.createSprite("energy_ball");
+        main.setSize(0, 1);
+        main.setOrigin(0, .5f);
+        beam = new Prefab(main)
+            .zIndex(-2)
+            .collider(null, false, CollisionLayer.ENEMY_BULLET, CollisionLayer.PLAYER, CollisionHandlers.BEAM)
+            .bullet(BulletHandlers.BEAM, 10, -1);
+
+        // Power-ups
+        Sprite
+            base = goAtlas.createSprite("upgrade_base"),
+            up = goAtlas.createSprite("up_arrow");
+
+        base.setOriginCenter();
+        up.setOriginCenter();
+        powerUp = new Prefab(base, up)
+            .zIndex(-3)
+            .movement(4, 0, -1)
+            .collider(ColliderShape.box(base.getWidth() + 10, base.getHeight() + 10), false, CollisionLayer.POWER_UP, CollisionLayer.PLAYER)
+            .lifetime(10);
+
+        // Stars are spawned one unit tall and scaled by their size
+        main = goAtlas.createSprite("star1");
+        main.setSize(1, 1);
+        main.setOriginCenter();
+        star = new Prefab(main)
+            .movement(0, 0, -1)
+            .lifetime(5);
+
+        main = goAtlas.createSprite("shooting_star");
+        main.setSize(3.5f, 1);
+        main.setOrigin(main.getWidth(), main.getHeight() / 2);
+        shootingStar = new Prefab(main)
+            .movement(0, 2, 0)
+            .lifetime(5);
+
+        // Background
+        final Pixmap PIX = new Pixmap((int)viewport.getWorldWidth(), (int)viewport.getWorldHeight(), Pixmap.Format.RGBA8888);
+
+        PIX.setColor(0, 0, 10 / 255f, 1);
+        PIX.fill();
+        main = new Sprite(new Texture(PIX));
+        PIX.dispose();
+
+        main.setSize(viewport.getWorldWidth(), viewport.getWorldHeight());
+        main.setOriginCenter();
+        background = new Prefab(main)
+            .zIndex(-999);
+    }
+
+    /**
+     * Makes the {@link Prefab} for a bullet that hurts the player.
+     *
+     * @param main      the sprite of the bullet
+     * @param moveSpeed the move speed of the bullet
+     * @param r         the radius of its collider
+     * @return the {@code Prefab}, with no {@link BulletHandler}
+     */
+    private static Prefab createEnemyPrefab(Sprite main, float moveSpeed, float r, CollisionHandler handler) {
+        return new Prefab(main)
+            .zIndex(-2)
+            .movement(moveSpeed, 1, 0)
+            .collider(ColliderShape.circle(r), false, CollisionLayer.ENEMY_BULLET, CollisionLayer.PLAYER, handler)
+            .bullet(null, 10, 0);
+    }
+
+    /**
+     * @param size  the width and height of the ball
+     * @param color the color of the ball
+     * @return an energy ball sprite with its origin at its center
+     */
+    private static Sprite createEnergyBall(float size, Color color) {
+        Sprite ball = goAtlas.createSprite("energy_ball");
+
+        ball.setSize(size, size);
+        ball.setOriginCenter();
+        ball.setColor(color);
+
+        return ball;
+    }
+
     /**
      * Sets the {@link PooledEngine} to use for initializing poolable {@link Entity}s
      *
@@ -68,6 +207,35 @@ public class EntityFactory {
         engine = p;
     }
 
+    /**
+     * Makes a burst of entities, like a ring of bullets, and adds them to the engine together. Every entity of the burst
+     * is taken from the pools before any of them is added, and they are added as one batch by the engine's
+     * {@link CommandBuffer} at its next sync point, grouped by their components, instead of one at a time.
+     * <p>
+     * If the engine has a {@link SpawnScheduler}, the burst goes through it instead, so a burst that doesn't fit in
+     * this frame's budget is spread out over the next few.
+     *
+     * @param e     the {@link Engine} to add the burst to
+     * @param count how many entities are in the burst
+     * @param init  the {@link BurstInitializer} that makes each entity of the burst
+     */
+    public static void spawnBurst(Engine e, int count, BurstInitializer init) {
+        final SpawnScheduler SCHEDULER = e.getSystem(SpawnScheduler.class);
+        final CommandBuffer COMMANDS = CommandBuffer.of(e);
+
+        for (int i = 0; i < count; i++) {
+            final Entity E = init.create(i);
+
+            if (E == null)
+                continue;
+
+            if (SCHEDULER != null)
+                SCHEDULER.schedule(E);
+            else
+                COMMANDS.spawn(E);
+        }
+    }
+
     // region Player Stuff
     /**
      * Creates a player that can move and shoot. Note that you need to add the
@@ -78,6 +246,7 @@ public class EntityFactory {
      * @return a player {@code Entity} that can move, shoot, and be killed.
      */
     public static Entity createPlayer(float x, float y) {
+        // Not pooled, so the screen can keep checking on the player after it is removed
         final Entity E = new Entity();
         final TransformComponent TRANSFORM = new TransformComponent();
         final MovementComponent MOVEMENT = new MovementComponent();
@@ -124,14 +293,10 @@ public class EntityFactory {
 
             }
         };
-        COLLIDER.BODY.setVertices(new float[]{
-                0,0,
-                16,0,
-                16,16,
-                0,16
-        });
-        COLLIDER.BODY.setOrigin(8, 8);
+        COLLIDER.setBox(16, 16);
         COLLIDER.solid = true;
+        COLLIDER.layer = CollisionLayer.PLAYER;
+        COLLIDER.mask = CollisionLayer.BOSS | CollisionLayer.ENEMY_BULLET | CollisionLayer.POWER_UP;
 
         // Initialize InputComponent
         InputProcessor ip = new InputAdapter() {
@@ -339,109 +504,22 @@ public class EntityFactory {
      * @return an {@code Entity} with all the necessary components for a bullet
      */
     public static Entity createPlayerBullet(float x, float y) {
-        final Entity E = engine.createEntity();
-        final TransformComponent TRANSFORM = engine.createComponent(TransformComponent.class);
-        final MovementComponent MOVEMENT = engine.createComponent(MovementComponent.class);
-        final SpriteComponent SPRITE = engine.createComponent(SpriteComponent.class);
-        final ColliderComponent COLLIDER = engine.createComponent(ColliderComponent.class);
-        final BulletComponent BULLET = engine.createComponent(BulletComponent.class);
-
-        // Initialize SpriteComponent
-        Sprite main = goAtlas.createSprite("bullet");
-        main.setOrigin(main.getWidth(), main.getHeight() / 2);
-        SPRITE.SPRITES.add(main);
-        SPRITE.zIndex = -10;
-
-        // Initialize TransformComponent
-        TRANSFORM.SIZE.setSize(main.getWidth(), main.getHeight());
-        TRANSFORM.ORIGIN.set(main.getOriginX(), main.getOriginY());
-        TRANSFORM.POSITION.set(x - main.getOriginX(), y - main.getOriginY());
-        TRANSFORM.rotation = 90;
-
-        // Initialize MovementComponent
-        MOVEMENT.moveSpeed = 10;
-        MOVEMENT.MOVEMENT_NORMAL.set(Vector2.Y);
-
-        // Initialize ColliderComponent
-        COLLIDER.handler = new CollisionHandler() {
-            @Override
-            public void enterCollision(Entity entity) {
-                if (Mapper.AI.has(entity)) {
-                    HealthComponent health = Mapper.HEALTH.get(entity);
-                    if (health.invincibilityTimer <= 0) {
-                        PlayerComponent player = Mapper.PLAYER.get(engine.getEntitiesFor(Family.all(PlayerComponent.class).get()).get(0));
-                        health.health -= BULLET.damage;
-                        player.shotsHit++;
-                        player.score += BULLET.damage;
-                        engine.removeEntity(E);
-                    }
-                }
-            }
-
-            @Override
-            public void whileCollision(Entity entity) {
-
-            }
-
-            @Override
-            public void exitCollision(Entity entity) {
-
-            }
-        };
-        COLLIDER.BODY.setVertices(new float[]{
-                0,0,
-                4,0,
-                4,4,
-                0,4
-        });
-        COLLIDER.BODY.setOrigin(2, 2);
-        COLLIDER.solid = false;
-
-        return E.add(TRANSFORM).add(MOVEMENT).add(COLLIDER).add(SPRITE).add(BULLET);
+        return playerBullet.spawn(engine, x, y, 90);
     }
     // endregion
 
     // region Enemy Damagables
-    public static Entity createEnemyDamagable(float rot) {
-        final Entity E = engine.createEntity();
-        final TransformComponent TRANSFORM = engine.createComponent(TransformComponent.class);
-        final MovementComponent MOVEMENT = engine.createComponent(MovementComponent.class);
-        final SpriteComponent SPRITE = engine.createComponent(SpriteComponent.class);
-        final ColliderComponent COLLIDER = engine.createComponent(ColliderComponent.class);
-        final BulletComponent BULLET = engine.createComponent(BulletComponent.class);
-
-        // Initialize MovementComponent
-        MOVEMENT.moveSpeed = 4;
-        MOVEMENT.MOVEMENT_NORMAL.set(Vector2.Y);
-        MOVEMENT.MOVEMENT_NORMAL.setAngle(rot);
-
-        // Initialize ColliderComponent
-        COLLIDER.handler = new CollisionHandler() {
-            @Override
-            public void enterCollision(Entity entity) {
-                if (Mapper.PLAYER.has(entity)) {
-                    HealthComponent health = Mapper.HEALTH.get(entity);
-
-                    if (!health.invincible) {
-                        health.health -= BULLET.damage;
-                        engine.removeEntity(E);
-                    }
-                }
-            }
-
-            @Override
-            public void whileCollision(Entity entity) {
-
-            }
-
-            @Override
-            public void exitCollision(Entity entity) {
-
-            }
-        };
-        COLLIDER.solid = false;
-
-        return E.add(TRANSFORM).add(MOVEMENT).add(COLLIDER).add(SPRITE).add(BULLET);
+    /**
+     * Spawns an enemy bullet from a {@link Prefab}. Its collider hits with the prefab's shared {@link CollisionHandler}.
+     *
+     * @param prefab the {@code Prefab} of the bullet
+     * @param x      the x-coordinate of the bullet
+     * @param y      the y-coordinate of the bullet
+     * @param rot    the rotation of the bullet
+     * @return an {@code Entity} with all the necessary components for a bullet
+     */
+    public static Entity createEnemyDamagable(Prefab prefab, float x, float y, float rot) {
+        return prefab.spawn(engine, x, y, rot);
     }
 
     /**
@@ -453,40 +531,7 @@ public class EntityFactory {
      * @return an {@code Entity} with all the necessary components for a bullet
      */
     public static Entity createEnemyBullet(float x, float y, float rot) {
-        final Entity E = createEnemyDamagable(rot);
-        final TransformComponent TRANSFORM = Mapper.TRANSFORM.get(E);
-        final MovementComponent MOVEMENT = Mapper.MOVEMENT.get(E);
-        final SpriteComponent SPRITE = Mapper.SPRITE.get(E);
-        final ColliderComponent COLLIDER = Mapper.COLLIDER.get(E);
-        final BulletComponent BULLET = Mapper.BULLET.get(E);
-
-        // Initialize SpriteComponent
-        Sprite main = goAtlas.createSprite("bullet_large");
-        main.setSize(24, 24);
-        main.setOriginCenter();
-        SPRITE.SPRITES.add(main);
-        SPRITE.zIndex = -2;
-
-        // Initialize TransformComponent
-        TRANSFORM.SIZE.setSize(main.getWidth(), main.getHeight());
-        TRANSFORM.ORIGIN.set(main.getOriginX(), main.getOriginY());
-        TRANSFORM.POSITION.set(x - TRANSFORM.ORIGIN.x, y - TRANSFORM.ORIGIN.y);
-        TRANSFORM.rotation = rot;
-
-        // Set up collider
-        COLLIDER.BODY.setVertices(new float[]{
-                0,0,
-                16,0,
-                16,16,
-                0,16
-        });
-        COLLIDER.BODY.setOrigin(8, 8);
-        COLLIDER.BODY.setRotation(rot);
-
-        // Initialize BulletComponent
-        BULLET.handler = (float dt) -> {};
-
-        return E;
+        return createEnemyDamagable(enemyBullet, x, y, rot);
     }
 
     /**
@@ -498,94 +543,10 @@ public class EntityFactory {
      * @return an {@code Entity} with all the necessary components for a bullet
      */
     public static Entity createEnemyShotgunBlast(float x, float y, float rot) {
-        final Entity E = createEnemyDamagable(rot);
-
-        TransformComponent TRANSFORM = Mapper.TRANSFORM.get(E);
-        SpriteComponent SPRITE = Mapper.SPRITE.get(E);
-        ColliderComponent COLLIDER = Mapper.COLLIDER.get(E);
-        BulletComponent BULLET = Mapper.BULLET.get(E);
-        MovementComponent MOVEMENT = Mapper.MOVEMENT.get(E);
-
-        // Initialize SpriteComponent
-        Sprite main = goAtlas.createSprite("energy_ball");
-        main.setSize(64, 64);
-        main.setOriginCenter();
-        main.setScale(0);
-        main.setColor(Color.CYAN);
-        SPRITE.SPRITES.add(main);
-        SPRITE.zIndex = -2;
-
-        // Initialize TransformComponent
-        TRANSFORM.SIZE.setSize(main.getWidth(), main.getHeight());
-        TRANSFORM.ORIGIN.set(main.getOriginX(), main.getOriginY());
-        TRANSFORM.POSITION.set(x - TRANSFORM.ORIGIN.x, y - TRANSFORM.ORIGIN.y);
-        TRANSFORM.rotation = rot;
-
-        // Initialize MovementComponent
-        MOVEMENT.moveSpeed = 0;
-
-        // Initialize ColliderComponent
-        COLLIDER.handler = new CollisionHandler() {
-            @Override
-            public void enterCollision(Entity entity) {
-                if (Mapper.PLAYER.has(entity)) {
-                    HealthComponent health = Mapper.HEALTH.get(entity);
-
-                    if (health.getHealthPercent() > 0 && health.invincibilityTimer <= 0)
-                        health.health -= BULLET.damage;
-                }
-            }
-
-            @Override
-            public void whileCollision(Entity entity) {
-
-            }
-
-            @Override
-            public void exitCollision(Entity entity) {
-
-            }
-        };
-
-        COLLIDER.BODY.setVertices(new float[]{
-                0,0,
-                TRANSFORM.SIZE.width / 1.41421356f,0,
-                TRANSFORM.SIZE.width / 1.41421356f,TRANSFORM.SIZE.height / 1.41421356f,
-                0,TRANSFORM.SIZE.height / 1.41421356f
-        });
-        COLLIDER.BODY.setOrigin(COLLIDER.BODY.getBoundingRectangle().getWidth() / 2, COLLIDER.BODY.getBoundingRectangle().getHeight() / 2);
-        COLLIDER.BODY.setRotation(rot);
+        final Entity E = shotgunBlast.spawn(engine, x, y, rot);
 
         // Initialize BulletComponent
-        BULLET.handler = new BulletHandler() {
-            private float timer = 3;
-
-            @Override
-            public void update(float dt) {
-                if (timer > 0) {
-                    timer -= dt;
-                    float scale = MathUtils.clamp(3 - timer, 0, 1);
-                    main.setScale(scale);
-                    COLLIDER.BODY.setScale(scale, scale);
-
-                    if (timer <= 0) {
-                        for (int i = 0; i < 20; i++) {
-                            float deg = 257.5f + MathUtils.random(25);
-                            float xPlace = TRANSFORM.POSITION.x + TRANSFORM.ORIGIN.x + 3 * MathUtils.cos(deg * MathUtils.degreesToRadians);
-                            float yPlace = TRANSFORM.POSITION.y + TRANSFORM.ORIGIN.y + 3 * MathUtils.sin(deg * MathUtils.degreesToRadians);
-
-                            final Entity E = EntityFactory.createEnemyBullet(xPlace, yPlace, deg);
-                            final MovementComponent MOVE = Mapper.MOVEMENT.get(E);
-                            Mapper.BULLET.get(E).damage = 7;
-                            MOVE.moveSpeed = 10;
-
-                            engine.addEntity(E);
-                        }
-                        engine.removeEntity(E);
-                    }
-                }
-            }
-        };
+        Mapper.BULLET.get(E).stateTimer = 3;
 
         return E;
     }
@@ -599,125 +560,13 @@ public class EntityFactory {
      * @return an {@code Entity} with all the necessary components for a bullet
      */
     public static Entity createEnemyLaserEmitter(float x, float y, float rot) {
-        final Entity E = createEnemyDamagable(rot);
-
-        TransformComponent TRANSFORM = Mapper.TRANSFORM.get(E);
-        SpriteComponent SPRITE = Mapper.SPRITE.get(E);
-        ColliderComponent COLLIDER = Mapper.COLLIDER.get(E);
-        BulletComponent BULLET = Mapper.BULLET.get(E);
-        MovementComponent MOVEMENT = Mapper.MOVEMENT.get(E);
-
-        // Initialize SpriteComponent
-        Sprite main = goAtlas.createSprite("energy_ball");
-        main.setSize(48, 48);
-        main.setOriginCenter();
-        main.setScale(0);
-        main.setColor(Color.CYAN);
-        SPRITE.SPRITES.add(main);
-        SPRITE.zIndex = -2;
-
-        // Initialize TransformComponent
-        TRANSFORM.SIZE.setSize(main.getWidth(), main.getHeight());
-        TRANSFORM.ORIGIN.set(main.getOriginX(), main.getOriginY());
-        TRANSFORM.POSITION.set(x - TRANSFORM.ORIGIN.x, y - TRANSFORM.ORIGIN.y);
-        TRANSFORM.rotation = rot;
+        final Entity E = laserEmitter.spawn(engine, x, y, rot);
 
         // Initialize MovementComponent
-        MOVEMENT.moveSpeed = MathUtils.random(.8f, 5f);
-
-        // Initialize ColliderComponent
-        COLLIDER.handler = new CollisionHandler() {
-            @Override
-            public void enterCollision(Entity entity) {
-                if (Mapper.PLAYER.has(entity)) {
-                    HealthComponent health = Mapper.HEALTH.get(entity);
-
-                    if (!health.invincible)
-                        health.health -= BULLET.damage;
-                }
-            }
-
-            @Override
-            public void whileCollision(Entity entity) {
-
-            }
-
-            @Override
-            public void exitCollision(Entity entity) {
-
-            }
-        };
-
-        COLLIDER.BODY.setVertices(new float[]{
-                0,0,
-                TRANSFORM.SIZE.width / 1.41421356f,0,
-                TRANSFORM.SIZE.width / 1.41421356f,TRANSFORM.SIZE.height / 1.41421356f,
-                0,TRANSFORM.SIZE.height / 1.41421356f
-        });
-        COLLIDER.BODY.setOrigin(COLLIDER.BODY.getBoundingRectangle().getWidth() / 2, COLLIDER.BODY.getBoundingRectangle().getHeight() / 2);
-        COLLIDER.BODY.setRotation(rot);
+        Mapper.MOVEMENT.get(E).moveSpeed = MathUtils.random(.8f, 5f);
 
         // Initialize BulletComponent
-        BULLET.handler = new BulletHandler() {
-            float timer = 4;
-            int state = 0;
-            @Override
-            public void update(float dt) {
-                switch(state) {
-                    case 0: // Shrinking stage
-                        timer -= dt;
-
-                        float scale = MathUtils.clamp((4 - timer) / 2f, 0, 1);
-                        main.setScale(scale);
-                        COLLIDER.BODY.setScale(scale, scale);
-                        MOVEMENT.moveSpeed = MathUtils.clamp(MOVEMENT.moveSpeed - dt / 4f, 0, 1);
-
-                        if (timer <= 0) {
-                            final ImmutableArray<Entity> PLAYERS = engine.getEntitiesFor(Family.all(PlayerComponent.class, TransformComponent.class).get());
-                            final Vector2
-                                    TARGET = new Vector2(),
-                                    CENTER = new Vector2();
-
-                            CENTER.set(TRANSFORM.POSITION).add(TRANSFORM.ORIGIN);
-
-                            if (PLAYERS.size() > 0) {
-                                final TransformComponent PLAYER_TRANS = Mapper.TRANSFORM.get(PLAYERS.first());
-                                TARGET.set(PLAYER_TRANS.POSITION).add(PLAYER_TRANS.ORIGIN);
-                            }
-
-                            TRANSFORM.rotation = MathUtils.radDeg * MathUtils.atan2(TARGET.y - CENTER.y, TARGET.x - CENTER.x);
-
-                            timer = 2;
-                            state++;
-                        }
-                        break;
-                    case 1: // Shooting at the player stage
-                        timer -= dt;
-                        MOVEMENT.moveSpeed = 0;
-
-                        float theta = (float) TRANSFORM.rotation;
-                        float xPlace = TRANSFORM.POSITION.x + TRANSFORM.ORIGIN.x + 3 * MathUtils.cos(theta * MathUtils.degreesToRadians);
-                        float yPlace = TRANSFORM.POSITION.y + TRANSFORM.ORIGIN.y + 3 * MathUtils.sin(theta * MathUtils.degreesToRadians);
-
-                        final Entity B = EntityFactory.createEnemyBullet(xPlace, yPlace, theta);
-                        final MovementComponent MOVE = Mapper.MOVEMENT.get(B);
-                        final BulletComponent BULLET = Mapper.BULLET.get(B);
-
-                        MOVE.moveSpeed = 10;
-                        BULLET.damage = 2;
-
-                        engine.addEntity(B);
-
-                        if (timer <= 0)
-                            state++;
-                        break;
-                    default:
-                        engine.removeEntity(E);
-                }
-            }
-        };
-
-        BULLET.despawnTime = -1;
+        Mapper.BULLET.get(E).stateTimer = 4;
 
         return E;
     }
@@ -732,92 +581,14 @@ public class EntityFactory {
      * @return an {@code Entity} with all the necessary components for a bullet
      */
     public static Entity createHomingEnemyBullet(float x, float y, float rot) {
-        final Entity E = createEnemyDamagable(rot);
-
-        TransformComponent TRANSFORM = Mapper.TRANSFORM.get(E);
-        SpriteComponent SPRITE = Mapper.SPRITE.get(E);
-        ColliderComponent COLLIDER = Mapper.COLLIDER.get(E);
-        MovementComponent MOVEMENT = Mapper.MOVEMENT.get(E);
-        BulletComponent BULLET = Mapper.BULLET.get(E);
-
-        // Initialize SpriteComponent
-        Sprite main = goAtlas.createSprite("energy_ball");
-        main.setColor(122 / 255f, 1, 104 / 255f, 1);
-        main.setSize(24, 24);
-        main.setOriginCenter();
-        SPRITE.SPRITES.add(main);
-        SPRITE.zIndex = -2;
-
-        // Initialize TransformComponent
-        TRANSFORM.SIZE.setSize(main.getWidth(), main.getHeight());
-        TRANSFORM.ORIGIN.set(main.getOriginX(), main.getOriginY());
-        TRANSFORM.POSITION.set(x - TRANSFORM.ORIGIN.x, y - TRANSFORM.ORIGIN.y);
-        TRANSFORM.rotation = rot;
-
-        // Initialize MovementComponent
-        MOVEMENT.moveSpeed = 4;
-
-        // Initialize ColliderComponent
-        COLLIDER.BODY.setVertices(new float[]{
-                0,0,
-                16,0,
-                16,16,
-                0,16
-        });
-        COLLIDER.BODY.setOrigin(8, 8);
-        COLLIDER.BODY.setRotation(rot);
-
-        // Initialize BulletComponent
-        BULLET.damage = 5;
+        final Entity E = createEnemyDamagable(homingBullet, x, y, rot);
 
         /*
         Slows down when bullet's speed is between 0 (exclusive) and 4.
         Slowly turns towards player when speed is 0.
         When it faces player, it changes speed to 6, and changes to red.
          */
-        BULLET.handler = new BulletHandler() {
-            private float timer = 1;
-            private int state;
-
-            @Override
-            public void update(float dt) {
-                switch (state) { // Slow down bullet
-                    case 0:
-                        MOVEMENT.moveSpeed = MathUtils.clamp(MOVEMENT.moveSpeed - dt * 4, 0, MOVEMENT.moveSpeed);
-                        if (MOVEMENT.moveSpeed == 0) {
-                            timer -= dt;
-                            if (timer <= 0)
-                                state++;
-                        }
-                        break;
-                    case 1: // Select target and set speed
-                        final ImmutableArray<Entity> PLAYERS = engine.getEntitiesFor(Family.one(PlayerComponent.class).get());
-                        final Vector2
-                                LOC = new Vector2(TRANSFORM.POSITION.cpy().add(TRANSFORM.ORIGIN)),
-                                TARGET = new Vector2();
-
-                        if (PLAYERS.size() > 0 && Mapper.TRANSFORM.has(PLAYERS.first())) { // If there is a player to target
-                            final TransformComponent PLAYER_TRANS = Mapper.TRANSFORM.get(PLAYERS.first());
-                            TARGET.set(PLAYER_TRANS.POSITION).add(PLAYER_TRANS.ORIGIN);
-                        }
-
-                        float theta = MathUtils.atan2(TARGET.y - LOC.y, TARGET.x - LOC.x);
-
-                        MOVEMENT.moveSpeed = 6;
-                        MOVEMENT.MOVEMENT_NORMAL.setAngleRad(theta);
-                        state++;
-                        break;
-                    case 2: // Fade
-                        SPRITE.SPRITES.get(0).setColor(
-                                MathUtils.clamp(SPRITE.SPRITES.get(0).getColor().r + dt, 0, 1),
-                                MathUtils.clamp(SPRITE.SPRITES.get(0).getColor().g - dt, 0, 1),
-                                MathUtils.clamp(SPRITE.SPRITES.get(0).getColor().b - dt, 0, 1),
-                                MathUtils.clamp(SPRITE.SPRITES.get(0).getColor().a - dt, 0, 1)
-                        );
-                        break;
-                }
-            }
-        };
+        Mapper.BULLET.get(E).stateTimer = 1;
 
         return E;
     }
@@ -831,40 +602,7 @@ public class EntityFactory {
      * @return an {@code Entity} with all the necessary components for a bullet
      */
     public static Entity createEnemyBall(float x, float y, float dir) {
-        final Entity E = createEnemyDamagable(dir);
-        final TransformComponent TRANSFORM = Mapper.TRANSFORM.get(E);
-        final MovementComponent MOVEMENT = Mapper.MOVEMENT.get(E);
-        final SpriteComponent SPRITE = Mapper.SPRITE.get(E);
-        final ColliderComponent COLLIDER = Mapper.COLLIDER.get(E);
-        final BulletComponent BULLET = Mapper.BULLET.get(E);
-
-        // Initialize SpriteComponent
-        Sprite main = goAtlas.createSprite("energy_ball");
-        main.setColor(191 / 255f, 106 / 255f, 221 / 255f, 1);
-        main.setSize(16, 16);
-        main.setOriginCenter();
-        SPRITE.SPRITES.add(main);
-        SPRITE.zIndex = -2;
-
-        // Initialize TransformComponent
-        TRANSFORM.SIZE.setSize(main.getWidth(), main.getHeight());
-        TRANSFORM.ORIGIN.set(main.getOriginX(), main.getOriginY());
-        TRANSFORM.POSITION.set(x - TRANSFORM.ORIGIN.x, y - TRANSFORM.ORIGIN.y);
-
-        // Initialize MovementComponent
-        MOVEMENT.moveSpeed = 3;
-
-        // Initialize ColliderComponent
-        COLLIDER.BODY.setVertices(new float[]{
-                0, 0,
-                TRANSFORM.SIZE.width / 1.41421356f, 0,
-                TRANSFORM.SIZE.width / 1.41421356f, TRANSFORM.SIZE.height / 1.41421356f,
-                0, TRANSFORM.SIZE.height / 1.41421356f
-        });
-        COLLIDER.BODY.setOrigin(COLLIDER.BODY.getBoundingRectangle().getWidth() / 2, COLLIDER.BODY.getBoundingRectangle().getHeight() / 2);
-        COLLIDER.BODY.setRotation(dir);
-
-        return E;
+        return createEnemyDamagable(enemyBall, x, y, dir);
     }
 
     /**
@@ -876,67 +614,9 @@ public class EntityFactory {
      * @return an {@code Entity} with all the necessary components for a bullet
      */
     public static Entity createEnemyBallExploding(float x, float y, float dir) {
-        final Entity E = createEnemyDamagable(dir);
-        final TransformComponent TRANSFORM = Mapper.TRANSFORM.get(E);
-        final MovementComponent MOVEMENT = Mapper.MOVEMENT.get(E);
-        final SpriteComponent SPRITE = Mapper.SPRITE.get(E);
-        final ColliderComponent COLLIDER = Mapper.COLLIDER.get(E);
-        final BulletComponent BULLET = Mapper.BULLET.get(E);
-
-        // Initialize SpriteComponent
-        Sprite main = goAtlas.createSprite("energy_ball");
-        main.setColor(Color.CHARTREUSE);
-        main.setSize(32, 32);
-        main.setOriginCenter();
-        SPRITE.SPRITES.add(main);
-        SPRITE.zIndex = -2;
-
-        // Initialize TransformComponent
-        TRANSFORM.SIZE.setSize(main.getWidth(), main.getHeight());
-        TRANSFORM.ORIGIN.set(main.getOriginX(), main.getOriginY());
-        TRANSFORM.POSITION.set(x - TRANSFORM.ORIGIN.x, y - TRANSFORM.ORIGIN.y);
-
-        // Initialize MovementComponent
-        MOVEMENT.moveSpeed = 3;
-
-        // Initialize ColliderComponent
-        COLLIDER.BODY.setVertices(new float[]{
-                0, 0,
-                TRANSFORM.SIZE.width / 1.41421356f, 0,
-                TRANSFORM.SIZE.width / 1.41421356f, TRANSFORM.SIZE.height / 1.41421356f,
-                0, TRANSFORM.SIZE.height / 1.41421356f
-        });
-        COLLIDER.BODY.setOrigin(COLLIDER.BODY.getBoundingRectangle().getWidth() / 2, COLLIDER.BODY.getBoundingRectangle().getHeight() / 2);
-        COLLIDER.BODY.setRotation(dir);
-
-        BULLET.handler = new BulletHandler() {
-            private float timer = MathUtils.random(1, 2);
+        final Entity E = createEnemyDamagable(explodingBall, x, y, dir);
 
-            @Override
-            public void update(float dt) {
-                timer -= dt;
-                SPRITE.SPRITES.get(0).setColor(
-                        MathUtils.clamp(SPRITE.SPRITES.get(0).getColor().r + dt / 2f, 0, 1),
-                        MathUtils.clamp(SPRITE.SPRITES.get(0).getColor().g - dt / 2f, 0, 1),
-                        MathUtils.clamp(SPRITE.SPRITES.get(0).getColor().b - dt / 2f, 0, 1),
-                        SPRITE.SPRITES.get(0).getColor().a
-                );
-
-                if (timer <= 0) {
-                    float rand = MathUtils.random(359);
-                    for (int i = 0; i < 5; i++) {
-                        float theta = i * 72f;
-                        Vector2 loc = TRANSFORM.POSITION.cpy().add(TRANSFORM.ORIGIN);
-                        Entity BALL = createEnemyBall(loc.x, loc.y, theta + rand);
-                        Mapper.BULLET.get(BALL).damage = 3;
-                        Mapper.SPRITE.get(BALL).SPRITES.get(0).setColor(Color.RED);
-                        Mapper.MOVEMENT.get(BALL).moveSpeed = 2;
-                        engine.addEntity(BALL);
-                    }
-                    engine.removeEntity(E);
-                }
-            }
-        };
+        Mapper.BULLET.get(E).stateTimer = MathUtils.random(1, 2);
 
         return E;
     }
@@ -950,74 +630,43 @@ public class EntityFactory {
      * @return an {@code Entity} with all the necessary components for a bullet
      */
     public static Entity createEmitterBall(float x, float y, float dir) {
-        final Entity E = createEnemyDamagable(dir);
+        return createEnemyDamagable(emitterBall, x, y, dir);
+    }
+
+    /**
+     * Creates a laser beam that grows out of the specified location for as long as it is emitted, then flies off.
+     * Unlike a stream of bullets, the whole beam is one entity with a segment collider and a sprite stretched to its length.
+     *
+     * @param x        the x-coordinate the beam comes out of
+     * @param y        the y-coordinate the beam comes out of
+     * @param rot      the direction of the beam
+     * @param speed    how fast both ends of the beam move, the same as a bullet's move speed
+     * @param emitTime how long the beam keeps coming out, in seconds
+     * @param width    how thick the beam is
+     * @param hitEvery how many frames the player has to stay in the beam to get hit again
+     * @return an {@code Entity} with all the necessary components for a laser beam
+     */
+    public static Entity createEnemyBeam(float x, float y, float rot, float speed, float emitTime, float width, int hitEvery) {
+        // The template is one unit thick, so scaling it by the width gives the beam its thickness
+        final Entity E = beam.spawn(engine, x, y, rot, width);
         final TransformComponent TRANSFORM = Mapper.TRANSFORM.get(E);
-        final MovementComponent MOVEMENT = Mapper.MOVEMENT.get(E);
-        final SpriteComponent SPRITE = Mapper.SPRITE.get(E);
         final ColliderComponent COLLIDER = Mapper.COLLIDER.get(E);
         final BulletComponent BULLET = Mapper.BULLET.get(E);
 
-        // Initialize SpriteComponent
-        Sprite main = goAtlas.createSprite("energy_ball");
-        main.setColor(Color.CHARTREUSE/*191 / 255f, 106 / 255f, 221 / 255f, 1*/);
-        main.setSize(64, 64);
-        main.setOriginCenter();
-        SPRITE.SPRITES.add(main);
-        SPRITE.zIndex = -2;
-
         // Initialize TransformComponent
-        TRANSFORM.SIZE.setSize(main.getWidth(), main.getHeight());
-        TRANSFORM.ORIGIN.set(main.getOriginX(), main.getOriginY());
-        TRANSFORM.POSITION.set(x - TRANSFORM.ORIGIN.x, y - TRANSFORM.ORIGIN.y);
-
-        // Initialize MovementComponent
-        MOVEMENT.moveSpeed = 2;
+        // The position is the back end of the beam, so there is no origin
+        TRANSFORM.ORIGIN.setZero();
+        TRANSFORM.POSITION.set(x, y);
 
         // Initialize ColliderComponent
-        COLLIDER.BODY.setVertices(new float[]{
-                0, 0,
-                TRANSFORM.SIZE.width / 1.41421356f, 0,
-                TRANSFORM.SIZE.width / 1.41421356f, TRANSFORM.SIZE.height / 1.41421356f,
-                0, TRANSFORM.SIZE.height / 1.41421356f
-        });
-        COLLIDER.BODY.setOrigin(COLLIDER.BODY.getBoundingRectangle().getWidth() / 2, COLLIDER.BODY.getBoundingRectangle().getHeight() / 2);
-        COLLIDER.BODY.setRotation(dir);
+        COLLIDER.setSegment(0, width / 2);
+        COLLIDER.BODY.setRotation(rot);
 
-        BULLET.handler = new BulletHandler() {
-            private float timer;
-            private int deg;
-            @Override
-            public void update(float dt) {
-                timer += dt;
-
-                if (timer >= 0.02f) {
-                    final Vector2 TRANS_CENTER = new Vector2(TRANSFORM.POSITION).add(TRANSFORM.ORIGIN);
-                    final float theta = deg * 15f;
-                    final float xPlace = TRANS_CENTER.x + 16 * MathUtils.cosDeg(theta);
-                    final float yPlace = TRANS_CENTER.y + 16 * MathUtils.sinDeg(theta);
-                    final Entity B = createEnemyBullet(xPlace, yPlace, theta);
-                    final SpriteComponent B_SPRITE = Mapper.SPRITE.get(B);
-                    final MovementComponent B_MOVE = Mapper.MOVEMENT.get(B);
-                    final BulletComponent B_BULLET = Mapper.BULLET.get(B);
-
-                    B_SPRITE.zIndex = SPRITE.zIndex - 1;
-
-                    B_MOVE.moveSpeed = 0;
-
-                    B_BULLET.handler = (float delta) -> {
-                        if (B_MOVE.moveSpeed < 5) {
-                            B_MOVE.moveSpeed += delta;
-                            if (B_MOVE.moveSpeed > 5)
-                                B_MOVE.moveSpeed = 5;
-                        }
-                    };
-
-                    engine.addEntity(B);
-                    timer = 0;
-                    deg++;
-                }
-            }
-        };
+        // Initialize BulletComponent
+        BULLET.speed = speed;
+        BULLET.stateDuration = emitTime;
+        BULLET.range = viewport.getWorldWidth() + viewport.getWorldHeight();
+        BULLET.hitEvery = hitEvery;
 
         return E;
     }
@@ -1034,31 +683,28 @@ public class EntityFactory {
      */
     public static Entity createRandomPowerUpSpawner(float x, float y, PooledEngine engine) {
         final PooledEngine ENGINE = engine;
-        final Entity E = new Entity();
-        final TransformComponent TRANSFORM = new TransformComponent();
-        final Sprite REF = new Sprite(goAtlas.createSprite("upgrade_base"));
-        final SpawnerComponent SPAWNER;
+        final Entity E = ENGINE.createEntity();
+        final TransformComponent TRANSFORM = ENGINE.createComponent(TransformComponent.class);
+        final SpawnerComponent SPAWNER = ENGINE.createComponent(SpawnerComponent.class);
 
         //Set up Transform Component
         TRANSFORM.POSITION.set(x, y);
 
         //Set up Spawn Component
-        SPAWNER = new SpawnerComponent(() -> {
-            Array<Entity> spawnedEntities = new Array<Entity>(1);
-
-            // Spawn at the top of the screen. Make sure that it isn't out of the reach of the player.
-            float spawnX = MathUtils.random(REF.getWidth(), viewport.getWorldWidth() - REF.getWidth() * 2);
-            float spawnY = viewport.getWorldHeight() + 32;
-
-            if (MathUtils.randomBoolean(0.5f))
-                spawnedEntities.add(createDamagePowerUp(spawnX, spawnY, ENGINE));
-            else if (MathUtils.randomBoolean(0.5f))
-                spawnedEntities.add(createSpeedPowerUp(spawnX, spawnY, ENGINE));
-            else
-                spawnedEntities.add(createFireRatePowerUp(spawnX, spawnY, ENGINE));
-
-            return spawnedEntities;
-        });
+        SPAWNER.handler = (count, commands) -> {
+            for (int i = 0; i < count; i++) {
+                // Spawn at the top of the screen. Make sure that it isn't out of the reach of the player.
+                float spawnX = MathUtils.random(powerUp.getWidth(), viewport.getWorldWidth() - powerUp.getWidth() * 2);
+                float spawnY = viewport.getWorldHeight() + 32;
+
+                if (MathUtils.randomBoolean(0.5f))
+                    commands.spawn(createDamagePowerUp(spawnX, spawnY, ENGINE));
+                else if (MathUtils.randomBoolean(0.5f))
+                    commands.spawn(createSpeedPowerUp(spawnX, spawnY, ENGINE));
+                else
+                    commands.spawn(createFireRatePowerUp(spawnX, spawnY, ENGINE));
+            }
+        };
 
         SPAWNER.spawnRateMin = 20;
         SPAWNER.spawnRateMax = 40;
@@ -1074,52 +720,10 @@ public class EntityFactory {
      * @param x the x-coordinate to spawn the powerup at
      * @param y the y-coordinate to spawn the powerup at
      * @return an {@code Entity} with the necessary {@code Component}s attached
-     *         to make any powerup (sans the {@code ColliderComponent}).
+     *         to make any powerup (sans the {@code ColliderComponent}'s handler).
      */
     public static Entity createBasePowerUp(float x, float y) {
-        final Entity E = engine.createEntity();
-        final TransformComponent TRANSFORM = engine.createComponent(TransformComponent.class);
-        final MovementComponent MOVEMENT = engine.createComponent(MovementComponent.class);
-        final ColliderComponent COLLIDER = engine.createComponent(ColliderComponent.class);
-        final SpriteComponent SPRITE = engine.createComponent(SpriteComponent.class);
-        final LifetimeComponent LIFETIME = engine.createComponent(LifetimeComponent.class);
-
-        //Set up Sprite Component
-        Sprite
-            base = goAtlas.createSprite("upgrade_base"),
-            up = goAtlas.createSprite("up_arrow");
-
-        base.setOriginCenter();
-        up.setOriginCenter();
-
-        SPRITE.SPRITES.add(base);
-        SPRITE.SPRITES.add(up);
-
-        SPRITE.zIndex = -3;
-
-        // Set up TransformComponent
-        TRANSFORM.SIZE.setSize(base.getWidth(), base.getHeight());
-        TRANSFORM.ORIGIN.set(base.getOriginX(), base.getOriginY());
-        TRANSFORM.POSITION.set(x - TRANSFORM.ORIGIN.x, y - TRANSFORM.ORIGIN.y);
-
-        // Set up ColliderComponent pt 1
-        COLLIDER.BODY.setVertices(new float[] {
-                -5, -5,
-                TRANSFORM.SIZE.width + 5, -5,
-                TRANSFORM.SIZE.width + 5, TRANSFORM.SIZE.height + 5,
-                -5, TRANSFORM.SIZE.height + 5
-        });
-        COLLIDER.solid = false;
-        COLLIDER.BODY.setOrigin(TRANSFORM.ORIGIN.x, TRANSFORM.ORIGIN.y);
-
-        // Set up MovementComponent
-        MOVEMENT.MOVEMENT_NORMAL.set(0, -1);
-        MOVEMENT.moveSpeed = 4;
-
-        // Set up powerup lifetime
-        LIFETIME.timer = 10;
-
-        return E.add(TRANSFORM).add(SPRITE).add(MOVEMENT).add(COLLIDER).add(LIFETIME);
+        return powerUp.spawn(engine, x, y, 0);
     }
 
     /**
@@ -1148,12 +752,13 @@ public class EntityFactory {
                     } else
                         player.score += 50;
 
-                    engine.removeEntity(E);
+                    CommandBuffer.of(engine).despawn(E);
                 }
             }
 
             @Override
             public void whileCollision(Entity entity) {
+                enterCollision(entity);
             }
 
             @Override
@@ -1191,12 +796,13 @@ public class EntityFactory {
                     } else
                         player.score += 50;
 
-                    ENGINE.removeEntity(E);
+                    CommandBuffer.of(ENGINE).despawn(E);
                 }
             }
 
             @Override
             public void whileCollision(Entity entity) {
+                enterCollision(entity);
             }
 
             @Override
@@ -1234,12 +840,13 @@ public class EntityFactory {
                     } else
                         player.score += 50;
 
-                    ENGINE.removeEntity(E);
+                    CommandBuffer.of(ENGINE).despawn(E);
                 }
             }
 
             @Override
             public void whileCollision(Entity entity) {
+                enterCollision(entity);
             }
 
             @Override
@@ -1262,81 +869,45 @@ public class EntityFactory {
      *         with its size & speed made proportional to its depth
      */
     public static Entity createStar(float x, float y, int z) {
-        final Entity E = engine.createEntity();
-        final TransformComponent TRANSFORM = engine.createComponent(TransformComponent.class);
-        final MovementComponent MOVEMENT = engine.createComponent(MovementComponent.class);
-        final SpriteComponent SPRITE = engine.createComponent(SpriteComponent.class);
-        final LifetimeComponent LIFETIME = engine.createComponent(LifetimeComponent.class);
-
         // Clamp z between 0 and 100
         z = MathUtils.clamp(z, 0, 100);
 
-        // Create star sprite
-        Sprite main = new Sprite(goAtlas.createSprite("star1"));
+        // The template is one unit across, so scaling it by the size makes it the right size
         float temp = (float)Math.pow(MathUtils.random(), 1);
-        Color tint = CoffeeUtils.HSVtoRGB(MathUtils.lerp(0, 300, temp), MathUtils.lerp(25f, 0, temp), 100);
+        Color tint = CoffeeUtils.HSVtoRGB(MathUtils.lerp(0, 300, temp), MathUtils.lerp(25f, 0, temp), 100, TINT);
         float size = MathUtils.lerp(1, 6, (100 - z) / 100f);
 
-        main.setSize(size, size);
-        main.setOriginCenter();
-        main.setColor(tint);
+        final Entity E = star.spawn(engine, x, y, 0, size);
+        final SpriteComponent SPRITE = Mapper.SPRITE.get(E);
 
-        SPRITE.SPRITES.add(main);
+        SPRITE.SPRITES.first().setColor(tint);
         SPRITE.zIndex = -100 - z;
 
-        // Initialize transform
-        TRANSFORM.SIZE.setSize(main.getWidth(), main.getHeight());
-        TRANSFORM.ORIGIN.set(main.getOriginX(), main.getOriginY());
-        TRANSFORM.POSITION.set(x - TRANSFORM.ORIGIN.x, y - TRANSFORM.ORIGIN.y);
-
         // Initialize movement
-        MOVEMENT.MOVEMENT_NORMAL.set(0, -1);
-        MOVEMENT.moveSpeed = MathUtils.lerp(3, 6, (100 - z) / 100f);
+        Mapper.MOVEMENT.get(E).moveSpeed = MathUtils.lerp(3, 6, (100 - z) / 100f);
 
-        // Initialize particle lifetime
-        LIFETIME.timer = 5;
-
-        return E.add(TRANSFORM).add(MOVEMENT).add(SPRITE).add(LIFETIME);
+        return E;
     }
 
     public static Entity createShootingStar(float x, float y, int z, float angle) {
-        final Entity E = engine.createEntity();
-        final TransformComponent TRANSFORM = engine.createComponent(TransformComponent.class);
-        final MovementComponent MOVEMENT = engine.createComponent(MovementComponent.class);
-        final SpriteComponent SPRITE = engine.createComponent(SpriteComponent.class);
-        final LifetimeComponent LIFETIME = engine.createComponent(LifetimeComponent.class);
-
         // Clamp z between 0 and 100
         z = MathUtils.clamp(z, 0, 100);
 
-        // Create star sprite
-        Sprite main = new Sprite(goAtlas.createSprite("shooting_star"));
+        // The template is one unit tall, so scaling it by the size makes it the right size
         float temp = (float)Math.pow(MathUtils.random(), 1);
-        Color tint = CoffeeUtils.HSVtoRGB(MathUtils.lerp(0, 300, temp), MathUtils.lerp(25f, 0, temp), 100);
+        Color tint = CoffeeUtils.HSVtoRGB(MathUtils.lerp(0, 300, temp), MathUtils.lerp(25f, 0, temp), 100, TINT);
         float size = MathUtils.lerp(1, 10, (100 - z) / 100f);
 
-        main.setSize(size * 3.5f, size);
-        main.setOrigin(main.getWidth(), main.getHeight() / 2);
-        main.setColor(tint);
+        final Entity E = shootingStar.spawn(engine, x, y, angle, size);
+        final SpriteComponent SPRITE = Mapper.SPRITE.get(E);
 
-        SPRITE.SPRITES.add(main);
+        SPRITE.SPRITES.first().setColor(tint);
         SPRITE.zIndex = -100 - z;
 
-        // Initialize transform
-        TRANSFORM.SIZE.setSize(main.getWidth(), main.getHeight());
-        TRANSFORM.ORIGIN.set(main.getOriginX(), main.getOriginY());
-        TRANSFORM.POSITION.set(x - TRANSFORM.ORIGIN.x, y - TRANSFORM.ORIGIN.y);
-        TRANSFORM.rotation = angle;
-
         // Initialize movement
-        MOVEMENT.MOVEMENT_NORMAL.set(0, -2);
-        MOVEMENT.MOVEMENT_NORMAL.setAngle(angle);
-        MOVEMENT.moveSpeed = MathUtils.lerp(7, 15, (100 - z) / 100f);
-
-        // Initialize particle lifetime
-        LIFETIME.timer = 5;
+        Mapper.MOVEMENT.get(E).moveSpeed = MathUtils.lerp(7, 15, (100 - z) / 100f);
 
-        return E.add(TRANSFORM).add(MOVEMENT).add(SPRITE).add(LIFETIME);
+        return E;
     }
 
     /**
@@ -1346,55 +917,42 @@ public class EntityFactory {
      * @return an {@link Entity} with a {@link SpawnerComponent} configured to spawn stars, asteroids, etc.
      */
     public static Entity createParticleGenerator() {
-        final Entity E = new Entity();
-        final TransformComponent TRANSFORM = new TransformComponent();
-        final SpriteComponent SPRITE = new SpriteComponent();
-        final SpawnerComponent SPAWNER;
-
-        // Initialize SpriteComponent
-        final Pixmap PIX = new Pixmap((int)viewport.getWorldWidth(), (int)viewport.getWorldHeight(), Pixmap.Format.RGBA8888);
-        final Texture TEX;
-        final Sprite SPR;
+        final Entity E = background.spawn(engine, viewport.getWorldWidth() / 2, viewport.getWorldHeight() / 2, 0);
+        final SpawnerComponent SPAWNER = engine.createComponent(SpawnerComponent.class);
+        final PooledEngine ENGINE = engine;
 
-        PIX.setColor(0, 0, 10 / 255f, 1);
-        PIX.fill();
-        TEX = new Texture(PIX);
-        SPR = new Sprite(TEX);
-
-        SPR.setSize(viewport.getWorldWidth(), viewport.getWorldHeight());
-        SPR.setOriginCenter();
-        SPRITE.SPRITES.add(SPR);
-        SPRITE.zIndex = -999;
-
-        TRANSFORM.SIZE.setSize(SPR.getWidth(), SPR.getHeight());
-        TRANSFORM.POSITION.set(0, 0);
-        TRANSFORM.ORIGIN.set(SPR.getOriginX(), SPR.getOriginY());
-
-        SPAWNER = new SpawnerComponent(() -> {
-            Array<Entity> entities = new Array<>();
-
-            if (MathUtils.randomBoolean(.995f)) { //star
-                float x = MathUtils.random(0, viewport.getWorldWidth());
-                float y = viewport.getWorldHeight();
-                int z = MathUtils.random(0, 100);
-
-                entities.add(createStar(x, y, z));
-            } else { //shooting star
-                float x = (MathUtils.randomBoolean())? -50 : viewport.getWorldWidth() + 50;
-                float y = MathUtils.random(0, viewport.getWorldHeight());
-                int z = MathUtils.random(0, 100);
-                float angle = (x <= -50)? MathUtils.random(-80, 20) : MathUtils.random(170, 260);
-
-                entities.add(createShootingStar(x, y, z, angle));
+        SPAWNER.handler = (count, commands) -> {
+            // Thin out the background when frames are running over budget
+            final QualityGovernor GOVERNOR = ENGINE.getSystem(QualityGovernor.class);
+            final float
+                DENSITY = GOVERNOR == null ? 1 : GOVERNOR.getStarDensity(),
+                SHOOTING = GOVERNOR == null ? 1 : GOVERNOR.getShootingStarChance();
+
+            for (int i = 0; i < count; i++) {
+                if (DENSITY < 1 && !MathUtils.randomBoolean(DENSITY))
+                    continue;
+
+                if (MathUtils.randomBoolean(1 - .005f * SHOOTING)) { //star
+                    float x = MathUtils.random(0, viewport.getWorldWidth());
+                    float y = viewport.getWorldHeight();
+                    int z = MathUtils.random(0, 100);
+
+                    commands.spawn(createStar(x, y, z));
+                } else { //shooting star
+                    float x = (MathUtils.randomBoolean())? -50 : viewport.getWorldWidth() + 50;
+                    float y = MathUtils.random(0, viewport.getWorldHeight());
+                    int z = MathUtils.random(0, 100);
+                    float angle = (x <= -50)? MathUtils.random(-80, 20) : MathUtils.random(170, 260);
+
+                    commands.spawn(createShootingStar(x, y, z, angle));
+                }
             }
-
-            return entities;
-        });
+        };
 
         SPAWNER.spawnRateMin = 0.02f;
         SPAWNER.spawnRateMax = 0.05f;
 
-        return E.add(TRANSFORM).add(SPAWNER).add(SPRITE);
+        return E.add(SPAWNER);
     }
     // endregion
 
@@ -1406,6 +964,7 @@ public class EntityFactory {
      * @return the boss {@code Entity} with all the necessary components needed to be a boss
      */
     public static Entity createBossShip(float x, float y) {
+        // Not pooled, so the screen can tell it is gone by it no longer being in the engine
         final Entity E = new Entity();
         final TransformComponent TRANSFORM = new TransformComponent();
         final MovementComponent MOVEMENT = new MovementComponent();
@@ -1452,14 +1011,10 @@ public class EntityFactory {
             }
         };
 
-        COLLIDER.BODY.setVertices(new float[]{
-                0,0,
-                64, 0,
-                64, 64,
-                0, 64
-        });
-        COLLIDER.BODY.setOrigin(32, 32);
+        COLLIDER.setBox(64, 64);
         COLLIDER.solid = true;
+        COLLIDER.layer = CollisionLayer.BOSS;
+        COLLIDER.mask = CollisionLayer.PLAYER | CollisionLayer.PLAYER_BULLET;
 
         // Initialize HealthComponent
         HEALTH.maxHealth = 10000;
@@ -0,0 +1,243 @@
+package com.coffee.entity;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.PooledEngine;
+import com.badlogic.gdx.graphics.g2d.Sprite;
+import com.badlogic.gdx.utils.Array;
+import com.coffee.entity.components.*;
+import com.coffee.util.BulletHandler;
+import com.coffee.util.ColliderShape;
+import com.coffee.util.CollisionHandler;
+
+/**
+ * Template for a kind of {@link Entity} that gets spawned over and over. Everything that is the same for every entity of
+ * that kind, like its sprites, size, collider and speed, is worked out once when the prefab is made, and
+ * {@link #spawn(PooledEngine, float, float, float, float)} copies it into components from the engine's pools in one go.
+ * <p>
+ * The sprites of a prefab are templates and are never drawn themselves; each entity gets its own copies through
+ * {@link SpriteComponent#add(Sprite)}, which reuses the sprites of pooled components.
+ */
+public class Prefab {
+    private final Array<Sprite> SPRITES = new Array<>();
+    private final float WIDTH, HEIGHT, ORIGIN_X, ORIGIN_Y;
+    private int zIndex;
+
+    private boolean moves;
+    private float moveSpeed, normalX, normalY;
+
+    private boolean collides;
+    private ColliderShape shape;
+    private boolean solid;
+    private int layer, mask;
+    private CollisionHandler collisionHandler;
+
+    private boolean bullet;
+    private BulletHandler handler;
+    private double damage;
+    private float despawnTime;
+
+    private boolean expires;
+    private double lifetime;
+
+    /**
+     * Makes a prefab out of the specified sprites. The sprites should already be sized, colored and have their origins set;
+     * the size and origin of the entity are taken from the first one.
+     *
+     * @param sprites the sprites of the entity, from the bottom up
+     */
+    public Prefab(Sprite... sprites) {
+        for (Sprite s : sprites)
+            SPRITES.add(new Sprite(s));
+
+        Sprite main = SPRITES.first();
+        WIDTH = main.getWidth();
+        HEIGHT = main.getHeight();
+        ORIGIN_X = main.getOriginX();
+        ORIGIN_Y = main.getOriginY();
+    }
+
+    /**
+     * @param zIndex the z-index of the {@link SpriteComponent}
+     * @return this prefab for chaining
+     */
+    public Prefab zIndex(int zIndex) {
+        this.zIndex = zIndex;
+        return this;
+    }
+
+    /**
+     * Gives the entity a {@link MovementComponent}. The movement normal is turned by the rotation the entity is spawned with.
+     *
+     * @param moveSpeed the move speed
+     * @param normalX   the x-component of the movement normal at a rotation of 0
+     * @param normalY   the y-component of the movement normal at a rotation of 0
+     * @return this prefab for chaining
+     */
+    public Prefab movement(float moveSpeed, float normalX, float normalY) {
+        moves = true;
+        this.moveSpeed = moveSpeed;
+        this.normalX = normalX;
+        this.normalY = normalY;
+        return this;
+    }
+
+    /**
+     * Gives the entity a {@link ColliderComponent} without a collision handler, leaving it to the factory.
+     *
+     * @param shape the {@link ColliderShape} of the collider, or {@code null} to leave it to the factory
+     * @param solid whether or not the collider is solid
+     * @param layer the collision layer
+     * @param mask  the layers the collider is tested against
+     * @return this prefab for chaining
+     */
+    public Prefab collider(ColliderShape shape, boolean solid, int layer, int mask) {
+        return collider(shape, solid, layer, mask, null);
+    }
+
+    /**
+     * Gives the entity a {@link ColliderComponent}.
+     *
+     * @param shape   the {@link ColliderShape} of the collider, or {@code null} to leave it to the factory
+     * @param solid   whether or not the collider is solid
+     * @param layer   the collision layer
+     * @param mask    the layers the collider is tested against
+     * @param handler the shared {@link CollisionHandler}, or {@code null}
+     * @return this prefab for chaining
+     */
+    public Prefab collider(ColliderShape shape, boolean solid, int layer, int mask, CollisionHandler handler) {
+        collides = true;
+        this.shape = shape;
+        this.solid = solid;
+        this.layer = layer;
+        this.mask = mask;
+        collisionHandler = handler;
+        return this;
+    }
+
+    /**
+     * Gives the entity a {@link BulletComponent}.
+     *
+     * @param handler     the shared {@link BulletHandler}, or {@code null}
+     * @param damage      how much damage the bullet does
+     * @param despawnTime how long the bullet can be off-screen, or -1 to never despawn it
+     * @return this prefab for chaining
+     */
+    public Prefab bullet(BulletHandler handler, double damage, float despawnTime) {
+        bullet = true;
+        this.handler = handler;
+        this.damage = damage;
+        this.despawnTime = despawnTime;
+        return this;
+    }
+
+    /**
+     * Gives the entity a {@link LifetimeComponent}.
+     *
+     * @param seconds how long the entity lasts
+     * @return this prefab for chaining
+     */
+    public Prefab lifetime(double seconds) {
+        expires = true;
+        lifetime = seconds;
+        return this;
+    }
+
+    /**
+     * @return the width of the first sprite
+     */
+    public float getWidth() {
+        return WIDTH;
+    }
+
+    /**
+     * @return the height of the first sprite
+     */
+    public float getHeight() {
+        return HEIGHT;
+    }
+
+    /**
+     * Spawns an entity with its origin at the specified location.
+     *
+     * @param engine   the {@link PooledEngine} to take the entity and its components from
+     * @param x        the x-coordinate of the origin
+     * @param y        the y-coordinate of the origin
+     * @param rotation the rotation of the entity, which the movement normal is turned by
+     * @return the new {@link Entity}, not yet added to the engine
+     */
+    public Entity spawn(PooledEngine engine, float x, float y, float rotation) {
+        return spawn(engine, x, y, rotation, 1);
+    }
+
+    /**
+     * Spawns an entity with its origin at the specified location, with the sprites and transform scaled by the specified amount.
+     * The collider is not scaled.
+     *
+     * @param engine   the {@link PooledEngine} to take the entity and its components from
+     * @param x        the x-coordinate of the origin
+     * @param y        the y-coordinate of the origin
+     * @param rotation the rotation of the entity, which the movement normal is turned by
+     * @param scale    how much bigger than the template the entity is
+     * @return the new {@link Entity}, not yet added to the engine
+     */
+    public Entity spawn(PooledEngine engine, float x, float y, float rotation, float scale) {
+        final Entity E = engine.createEntity();
+        final TransformComponent TRANSFORM = engine.createComponent(TransformComponent.class);
+        final SpriteComponent SPRITE = engine.createComponent(SpriteComponent.class);
+
+        for (int i = 0; i < SPRITES.size; i++) {
+            Sprite s = SPRITE.add(SPRITES.get(i));
+
+            if (scale != 1) {
+                s.setSize(s.getWidth() * scale, s.getHeight() * scale);
+                s.setOrigin(s.getOriginX() * scale, s.getOriginY() * scale);
+            }
+        }
+        SPRITE.zIndex = zIndex;
+
+        TRANSFORM.SIZE.setSize(WIDTH * scale, HEIGHT * scale);
+        TRANSFORM.ORIGIN.set(ORIGIN_X * scale, ORIGIN_Y * scale);
+        TRANSFORM.POSITION.set(x - TRANSFORM.ORIGIN.x, y - TRANSFORM.ORIGIN.y);
+        TRANSFORM.rotation = rotation;
+
+        E.add(TRANSFORM).add(SPRITE);
+
+        if (moves) {
+            final MovementComponent MOVEMENT = engine.createComponent(MovementComponent.class);
+
+            MOVEMENT.moveSpeed = moveSpeed;
+            MOVEMENT.MOVEMENT_NORMAL.set(normalX, normalY).rotate(rotation);
+            E.add(MOVEMENT);
+        }
+
+        if (collides) {
+            final ColliderComponent COLLIDER = engine.createComponent(ColliderComponent.class);
+
+            if (shape != null)
+                COLLIDER.setShape(shape);
+            COLLIDER.solid = solid;
+            COLLIDER.layer = layer;
+            COLLIDER.mask = mask;
+            COLLIDER.handler = collisionHandler;
+            E.add(COLLIDER);
+        }
+
+        if (bullet) {
+            final BulletComponent BULLET = engine.createComponent(BulletComponent.class);
+
+            BULLET.handler = handler;
+            BULLET.damage = damage;
+            BULLET.despawnTime = despawnTime;
+            E.add(BULLET);
+        }
+
+        if (expires) {
+            final LifetimeComponent LIFETIME = engine.createComponent(LifetimeComponent.class);
+
+            LIFETIME.timer = lifetime;
+            E.add(LIFETIME);
+        }
+
+        return E;
+    }
+}
@@ -4,25 +4,43 @@ import com.badlogic.ashley.core.Component;
 import com.badlogic.ashley.core.Entity;
 import com.badlogic.gdx.utils.Pool;
 import com.coffee.util.BulletHandler;
+import com.coffee.util.TimingWheel;
 
 /**
  * {@link Component} to keep track of how much damage an {@link Entity}
  * with this component deals.
+ * <p>
+ * Handlers are shared between bullets, so anything a handler needs to remember about one bullet
+ * is kept here in {@code state}, {@code stateTimer}, {@code stateDuration}, {@code counter} and {@code angle}.
  *
  * @author Jared Tulayan
  */
 public class BulletComponent implements Component, Pool.Poolable {
     public BulletHandler handler;
-    public float timer, despawnTime;
+    public float despawnTime;
+    public final TimingWheel.Timer DESPAWN = new TimingWheel.Timer();
     public double damage = 10;
     public int state = 0;
+    public float stateTimer, stateDuration, angle;
+    public int counter;
+
+    /** How fast a beam grows and flies off, how far it can reach, and how many frames apart it hits. */
+    public float speed, range;
+    public int hitEvery;
 
     @Override
     public void reset() {
         handler = null;
         damage = 10;
-        timer = 0;
+        DESPAWN.cancel();
         despawnTime = 0;
         state = 0;
+        stateTimer = 0;
+        stateDuration = 0;
+        angle = 0;
+        counter = 0;
+        speed = 0;
+        range = 0;
+        hitEvery = 0;
     }
 }
@@ -5,44 +5,186 @@ import com.badlogic.ashley.core.Entity;
 import com.badlogic.gdx.math.Polygon;
 import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.Pool;
+import com.coffee.util.ColliderShape;
 import com.coffee.util.CollisionHandler;
+import com.coffee.util.CollisionLayer;
 
 /**
  * {@link Component} that contains a {@link Polygon} for collison, and a {@link CollisionHandler} for handling
- * the effects of a collision.
+ * the effects of a collision. The layer and mask decide which other colliders this one is tested against;
+ * see {@link CollisionLayer}.
+ * <p>
+ * Circles and axis-aligned boxes are tested without going through the polygon; their BODY is kept as the
+ * unrotated bounding square so the broadphase and debug drawing still work off of it. The vertices of the BODY
+ * come from a shared {@link ColliderShape}, and must not be changed in place.
  *
  * @author Phillip O'Reggio
  */
 public class ColliderComponent implements Component, Pool.Poolable {
+    /**
+     * The kinds of shapes a collider can be tested as.
+     */
+    public enum Shape {
+        /** Any convex polygon, tested with SAT. */
+        POLYGON,
+        /** A circle around the BODY origin. */
+        CIRCLE,
+        /** The bounding rectangle of the BODY, as long as it is not rotated. */
+        BOX,
+        /** A line as long as the x-scale of the BODY that starts at its origin and points along its rotation. */
+        SEGMENT
+    }
+
     public final Polygon BODY;
+    public ColliderShape prototype;
     public CollisionHandler handler;
     public boolean solid;
+    public int layer, mask;
     public Array<Entity> collidingWith;
 
+    /** Order of this collider within its layer for the current frame. Set by the collision system. */
+    public int proxy;
+
+    /** Identifies this collider in contact pairs while it is in the engine. Set by the collision system. */
+    public int id;
+
+    /** Whether or not the BODY moved, turned or changed size since last frame. Set by the collision system. */
+    public boolean moved;
+
+    /** World space bounds and center of the BODY as of the last {@link #update(float, float)}. */
+    public float minX, minY, maxX, maxY, centerX, centerY;
+
+    /** World space vertices of the BODY as of the last {@link #update(float, float)}. */
+    public float[] vertices;
+
+    private float lastRotation, lastScaleX, lastScaleY;
+    private boolean dirty;
+
     /**
      * Creates component with a polygonal square BODY of size 32.
      */
     public ColliderComponent() {
-        BODY = new Polygon(new float[]{
-                0,0,
-                32, 0,
-                32, 32,
-                0, 32
-        });
+        BODY = new Polygon();
+        setShape(ColliderShape.DEFAULT);
         solid = true;
+        layer = CollisionLayer.DEFAULT;
+        mask = CollisionLayer.ALL;
         collidingWith = new Array<Entity>();
+        moved = true;
+        dirty = true;
+    }
+
+    /**
+     * Gives this collider a shape from the {@link ColliderShape} registry. The vertices are shared with every other
+     * collider of the same shape; only the position, rotation and scale of the BODY belong to this one.
+     *
+     * @param prototype the shape to use
+     */
+    public void setShape(ColliderShape prototype) {
+        this.prototype = prototype;
+        prototype.applyTo(BODY);
+        dirty = true;
+    }
+
+    /**
+     * Makes this collider a circle centered on the origin of the BODY.
+     *
+     * @param r the radius of the circle
+     */
+    public void setCircle(float r) {
+        setShape(ColliderShape.circle(r));
+        BODY.setRotation(0);
+    }
+
+    /**
+     * Makes this collider an axis-aligned box centered on the origin of the BODY.
+     *
+     * @param width  the width of the box
+     * @param height the height of the box
+     */
+    public void setBox(float width, float height) {
+        setShape(ColliderShape.box(width, height));
+        BODY.setRotation(0);
+    }
+
+    /**
+     * Makes this collider a line segment that starts at the origin of the BODY and points along its rotation.
+     *
+     * @param length how long the segment is
+     * @param r      how thick the segment is on either side
+     */
+    public void setSegment(float length, float r) {
+        setShape(ColliderShape.segment(r));
+        setLength(length);
+    }
+
+    /**
+     * Changes how long a segment collider is by stretching its BODY.
+     *
+     * @param length how long the segment is
+     */
+    public void setLength(float length) {
+        BODY.setScale(length, BODY.getScaleY());
+    }
+
+    /**
+     * Forces the cached bounds and vertices to be recomputed on the next update.
+     * Only needed after changing the vertices or origin of the BODY directly.
+     */
+    public void dirty() {
+        dirty = true;
+    }
+
+    /**
+     * Moves the BODY so that its origin sits on the specified point, then recomputes the cached bounds and
+     * vertices if the BODY moved, turned or changed size since the last update.
+     *
+     * @param x the x-coordinate to place the origin of the BODY at
+     * @param y the y-coordinate to place the origin of the BODY at
+     * @return whether or not anything changed
+     */
+    public boolean update(float x, float y) {
+        float
+            left = x - BODY.getOriginX(),
+            bottom = y - BODY.getOriginY();
+
+        if (!dirty && left == BODY.getX() && bottom == BODY.getY() && lastRotation == BODY.getRotation()
+                && lastScaleX == BODY.getScaleX() && lastScaleY == BODY.getScaleY())
+            return false;
+
+        BODY.setPosition(left, bottom);
+        vertices = BODY.getTransformedVertices();
+
+        minX = maxX = vertices[0];
+        minY = maxY = vertices[1];
+        for (int i = 2; i < vertices.length; i += 2) {
+            minX = Math.min(minX, vertices[i]);
+            maxX = Math.max(maxX, vertices[i]);
+            minY = Math.min(minY, vertices[i + 1]);
+            maxY = Math.max(maxY, vertices[i + 1]);
+        }
+        centerX = x;
+        centerY = y;
+
+        lastRotation = BODY.getRotation();
+        lastScaleX = BODY.getScaleX();
+        lastScaleY = BODY.getScaleY();
+        dirty = false;
+
+        return true;
     }
 
     @Override
     public void reset() {
-        BODY.setVertices(new float[]{
-                0,0,
-                32, 0,
-                32, 32,
-                0, 32
-        });
+        setShape(ColliderShape.DEFAULT);
         BODY.setRotation(0);
+        BODY.setScale(1, 1);
         solid = true;
+        layer = CollisionLayer.DEFAULT;
+        mask = CollisionLayer.ALL;
         collidingWith.clear();
+        id = 0;
+        moved = true;
+        dirty = true;
     }
 }
@@ -14,6 +14,8 @@ public class GUIComponent implements Component, Pool.Poolable {
 
     @Override
     public void reset() {
-        canvas.clear();
+        if (canvas != null)
+            canvas.clear();
+        canvas = null;
     }
 }
@@ -2,6 +2,7 @@ package com.coffee.entity.components;
 
 import com.badlogic.ashley.core.Component;
 import com.badlogic.gdx.utils.Pool;
+import com.coffee.util.TimingWheel;
 
 /**
  * {@link com.badlogic.ashley.core.Component Component} representing the health of an entity. Entities like bullets, health power-ups,
@@ -11,7 +12,8 @@ import com.badlogic.gdx.utils.Pool;
  */
 public class HealthComponent implements Component, Pool.Poolable {
     public int health, maxHealth;
-    public float invincibilityTimer, invincibilityDuration, respawnTimer, respawnDuration;
+    public float invincibilityDuration, respawnDuration;
+    public final TimingWheel.Timer INVINCIBILITY = new TimingWheel.Timer(), RESPAWN = new TimingWheel.Timer();
     public boolean invincible;
 
     /**
@@ -42,7 +44,7 @@ public class HealthComponent implements Component, Pool.Poolable {
         respawnDuration = 1;
         invincible = false;
 
-        invincibilityTimer = 0;
-        respawnTimer = 0;
+        INVINCIBILITY.cancel();
+        RESPAWN.cancel();
     }
 }
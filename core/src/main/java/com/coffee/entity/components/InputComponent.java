@@ -2,6 +2,7 @@ package com.coffee.entity.components;
 
 import com.badlogic.ashley.core.Component;
 import com.badlogic.gdx.InputProcessor;
+import com.badlogic.gdx.utils.Pool;
 
 /**
  * {@link Component} that contains one {@link InputProcessor}
@@ -9,10 +10,19 @@ import com.badlogic.gdx.InputProcessor;
  *
  * @author Jared Tulayan
  */
-public class InputComponent implements Component{
-    public final InputProcessor PROCESSOR;
+public class InputComponent implements Component, Pool.Poolable {
+    public InputProcessor processor;
+
+    public InputComponent() {
+
+    }
 
     public InputComponent(InputProcessor ip) {
-        PROCESSOR = ip;
+        processor = ip;
+    }
+
+    @Override
+    public void reset() {
+        processor = null;
     }
 }
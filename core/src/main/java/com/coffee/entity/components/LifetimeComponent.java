@@ -3,6 +3,7 @@ package com.coffee.entity.components;
 import com.badlogic.ashley.core.Component;
 import com.badlogic.ashley.core.Entity;
 import com.badlogic.gdx.utils.Pool;
+import com.coffee.util.TimingWheel;
 
 /**
  * {@link Component} that contains a timer
@@ -12,6 +13,7 @@ import com.badlogic.gdx.utils.Pool;
  */
 public class LifetimeComponent implements Component, Pool.Poolable {
     public double timer;
+    public final TimingWheel.Timer EXPIRATION = new TimingWheel.Timer();
 
     public LifetimeComponent() {
 
@@ -19,6 +21,6 @@ public class LifetimeComponent implements Component, Pool.Poolable {
 
     @Override
     public void reset() {
-
+        EXPIRATION.cancel();
     }
 }
@@ -15,7 +15,7 @@ import com.badlogic.gdx.utils.Pool;
 public class MovementComponent implements Component, Pool.Poolable {
     public final Vector2 MOVEMENT_NORMAL;
 
-    public double rotSpeed, moveSpeed;
+    public float rotSpeed, moveSpeed;
 
     /**
      * Initializes the movement normal.
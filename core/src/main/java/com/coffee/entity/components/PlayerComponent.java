@@ -31,10 +31,16 @@ public class PlayerComponent implements Component, Pool.Poolable {
 
     @Override
     public void reset() {
+        up = down = left = right = 0;
+        shoot = false;
         upBulletDamage = 0;
         upFireRate = 0;
         upSpeed = 0;
         shootTimer = shotsPerSecond = 1;
+        lives = 3;
+        timeAlive = 0;
+        revive = false;
+        shotsFired = shotsHit = 0;
         score = 0;
     }
 
@@ -1,6 +1,7 @@
 package com.coffee.entity.components;
 
 import com.badlogic.ashley.core.Component;
+import com.badlogic.gdx.utils.Pool;
 import com.coffee.util.SpawnerHandler;
 
 /**
@@ -8,9 +9,22 @@ import com.coffee.util.SpawnerHandler;
  *
  * @author Jared Tulayan
  */
-public class SpawnerComponent implements Component {
+public class SpawnerComponent implements Component, Pool.Poolable {
     public float spawnRateMin, spawnRateMax, timer;
-    public final SpawnerHandler HANDLER;
+    /** The most times the spawner can go off in one frame; whatever is left of a longer frame is skipped. */
+    public int maxPerTick;
+    public SpawnerHandler handler;
+
+    /**
+     * Initializes the {@link SpawnerComponent} with no {@link SpawnerHandler}.
+     * This also sets the spawnrate to a default of 10 seconds.
+     */
+    public SpawnerComponent() {
+        timer = 0;
+        spawnRateMin = 10;
+        spawnRateMax = 10;
+        maxPerTick = 8;
+    }
 
     /**
      * Initializes the {@link SpawnerComponent} with the specified {@link SpawnerHandler}.
@@ -19,10 +33,16 @@ public class SpawnerComponent implements Component {
      * @param handler the {@code SpawnerHandler} that will handle how this {@code Entity} spawns in other objects.
      */
     public SpawnerComponent(SpawnerHandler handler) {
-        HANDLER = handler;
+        this();
+        this.handler = handler;
+    }
+
+    @Override
+    public void reset() {
+        handler = null;
         timer = 0;
         spawnRateMin = 10;
         spawnRateMax = 10;
+        maxPerTick = 8;
     }
-
 }
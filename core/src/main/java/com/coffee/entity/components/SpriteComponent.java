@@ -18,6 +18,10 @@ public class SpriteComponent implements Component, Pool.Poolable {
     public final Array<Sprite> SPRITES;
     public int zIndex;
 
+    // Sprites made by add(Sprite), kept when this component goes back into its pool
+    private final Array<Sprite> OWNED = new Array<Sprite>(false, 4);
+    private int used;
+
     /**
      * Initializes the {@link Array<Sprite>} to store the sprites
      * and sets the z-index to 0.
@@ -27,9 +31,28 @@ public class SpriteComponent implements Component, Pool.Poolable {
         zIndex = 0;
     }
 
+    /**
+     * Adds a copy of the specified sprite on top of the others. The copy reuses a sprite left over from the last time
+     * this component was used if there is one, so nothing is allocated once the pool has warmed up.
+     *
+     * @param template the {@link Sprite} to copy
+     * @return the copy that was added
+     */
+    public Sprite add(Sprite template) {
+        if (used == OWNED.size)
+            OWNED.add(new Sprite());
+
+        Sprite sprite = OWNED.get(used++);
+        sprite.set(template);
+        SPRITES.add(sprite);
+
+        return sprite;
+    }
+
     @Override
     public void reset() {
         SPRITES.clear();
+        used = 0;
         zIndex = 0;
     }
 }
@@ -7,6 +7,7 @@ import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.utils.viewport.Viewport;
+import com.coffee.entity.CommandBuffer;
 import com.coffee.entity.components.AIComponent;
 import com.coffee.entity.components.HealthComponent;
 import com.coffee.entity.components.MovementComponent;
@@ -325,7 +326,7 @@ public class AISystem extends IteratingSystem {
         Mapper.SPRITE.get(entity).SPRITES.get(1).setColor(new Color(.2f, .2f, 1, 1).lerp(Color.RED, 1f - HEALTH.getHealthPercent()));
 
         if (HEALTH.health <= 0)
-            getEngine().removeEntity(entity);
+            CommandBuffer.of(getEngine()).despawn(entity);
     }
 
     /**
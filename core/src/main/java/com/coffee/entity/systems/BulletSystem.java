@@ -28,18 +28,18 @@ public class BulletSystem extends IteratingSystem {
         final BulletComponent BULLET = Mapper.BULLET.get(entity);
 
         if (BULLET.handler != null)
-            BULLET.handler.update(deltaTime);
+            BULLET.handler.update(entity, getEngine(), deltaTime);
 
         boolean
             outsideLowerBounds = TRANSFORM.POSITION.x < -TRANSFORM.SIZE.width || TRANSFORM.POSITION.y < -TRANSFORM.SIZE.height,
             outsideUpperBounds = TRANSFORM.POSITION.x > MAP_SIZE.width || TRANSFORM.POSITION.y > MAP_SIZE.height;
 
+        // Start counting down when the bullet leaves the screen, and stop if it comes back
         if (BULLET.despawnTime != -1.0f && (outsideLowerBounds || outsideUpperBounds)) {
-            BULLET.timer -= deltaTime;
-            if (BULLET.timer <= 0)
-                getEngine().removeEntity(entity);
+            if (!BULLET.DESPAWN.isScheduled())
+                getEngine().getSystem(TimerSystem.class).schedule(BULLET.DESPAWN, BULLET.despawnTime, entity, TimerSystem.REMOVE);
         } else {
-            BULLET.timer = BULLET.despawnTime;
+            BULLET.DESPAWN.cancel();
         }
     }
 }
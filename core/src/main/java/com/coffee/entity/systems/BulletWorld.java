@@ -0,0 +1,461 @@
+package com.coffee.entity.systems;
+
+import com.badlogic.ashley.core.Engine;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.EntitySystem;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.ashley.utils.ImmutableArray;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.viewport.Viewport;
+import com.coffee.entity.components.ColliderComponent;
+import com.coffee.entity.components.HealthComponent;
+import com.coffee.entity.components.PlayerComponent;
+import com.coffee.util.Assets;
+import com.coffee.util.Mapper;
+
+import java.util.Arrays;
+
+/**
+ * {@link EntitySystem} that simulates plain enemy bullets without making an {@link Entity} for each of them.
+ * Every bullet is a slot in a set of parallel primitive arrays, and dead bullets are swapped with the last
+ * live one so the live bullets always stay packed at the front.
+ * <p>
+ * Bullets don't keep a velocity. Each one follows a trajectory that gives its position as a function of where it
+ * spawned and how long ago, so it can be placed at any point in time with {@link #positionAt(int, float, Vector2)}.
+ * The same goes for bullets whose color fades or pulses, which stops while the {@link QualityGovernor} has quality
+ * at {@link QualityGovernor#LOW} or below. Bullets are removed once they leave the screen, or once
+ * their lifetime runs out if they have one, and hurt the player the same way bullets from
+ * {@code EntityFactory.createEnemyDamagable} do. They are drawn by the {@link DrawSystem}, on top of every sprite.
+ * Anything that needs its own behavior should still be an {@code Entity}.
+ */
+public class BulletWorld extends EntitySystem {
+    /** The kinds of bullets that can be spawned, matching the sprites of the enemy ball and the enemy bullet. */
+    public static final int BALL = 0, LARGE = 1;
+
+    private static final int LINEAR = 0, EASED = 1, WAVE = 2, ORBIT = 3;
+    private static final int SOLID = 0, FADE = 1, PULSE = 2;
+
+    private final TextureRegion[] REGIONS;
+    private final float[] SIZES, RADII;
+    private final Color[] COLORS;
+    private final float WIDTH, HEIGHT;
+    private final Vector2 POSITION;
+    private ImmutableArray<Entity> players;
+
+    private int size;
+    private boolean shifting = true;
+    private int[] kind, damage, trajectory, colorMode;
+    private float[] originX, originY, angle, speed, paramA, paramB, age, lifetime;
+    private float[] x, y, heading, radius, color, colorFrom, colorTo, colorFrequency;
+
+    public BulletWorld(Viewport v) {
+        this(v, 1024);
+    }
+
+    /**
+     * Creates a world with room for the specified amount of bullets before it has to grow.
+     *
+     * @param v        the {@link Viewport} whose world bounds bullets are removed outside of
+     * @param capacity the amount of bullets to make room for
+     */
+    public BulletWorld(Viewport v, int capacity) {
+        final TextureAtlas ATLAS = Assets.MANAGER.get(Assets.GameObjects.ATLAS);
+
+        REGIONS = new TextureRegion[]{ATLAS.findRegion("energy_ball"), ATLAS.findRegion("bullet_large")};
+        SIZES = new float[]{16, 24};
+        RADII = new float[]{16 / 1.41421356f / 2, 8};
+        COLORS = new Color[]{new Color(191 / 255f, 106 / 255f, 221 / 255f, 1), Color.WHITE};
+        WIDTH = v.getWorldWidth();
+        HEIGHT = v.getWorldHeight();
+        POSITION = new Vector2();
+
+        capacity = Math.max(capacity, 16);
+        kind = new int[capacity];
+        damage = new int[capacity];
+        trajectory = new int[capacity];
+        colorMode = new int[capacity];
+        originX = new float[capacity];
+        originY = new float[capacity];
+        angle = new float[capacity];
+        speed = new float[capacity];
+        paramA = new float[capacity];
+        paramB = new float[capacity];
+        age = new float[capacity];
+        lifetime = new float[capacity];
+        x = new float[capacity];
+        y = new float[capacity];
+        heading = new float[capacity];
+        radius = new float[capacity];
+        color = new float[capacity];
+        colorFrom = new float[capacity * 4];
+        colorTo = new float[capacity * 4];
+        colorFrequency = new float[capacity];
+    }
+
+    @Override
+    public void addedToEngine(Engine engine) {
+        players = engine.getEntitiesFor(Family.all(PlayerComponent.class, ColliderComponent.class, HealthComponent.class).get());
+    }
+
+    @Override
+    public void removedFromEngine(Engine engine) {
+        players = null;
+    }
+
+    /**
+     * Adds a bullet that moves in a straight line at a constant speed.
+     * The returned index stays valid until this system updates again, so the bullet can be tweaked right after.
+     *
+     * @param kind   the kind of bullet, either {@link #BALL} or {@link #LARGE}
+     * @param x      the x-coordinate of the center of the bullet
+     * @param y      the y-coordinate of the center of the bullet
+     * @param angle  the direction of the bullet, in degrees
+     * @param speed  how fast the bullet moves, in the same units as {@code MovementComponent.moveSpeed}
+     * @param damage how much health the bullet takes from the player
+     * @return the index of the new bullet
+     */
+    public int spawn(int kind, float x, float y, float angle, float speed, int damage) {
+        if (size == this.x.length)
+            resize(size * 2);
+
+        int i = size++;
+        this.kind[i] = kind;
+        this.damage[i] = damage;
+        trajectory[i] = LINEAR;
+        originX[i] = x;
+        originY[i] = y;
+        this.angle[i] = angle;
+        this.speed[i] = speed;
+        age[i] = 0;
+        lifetime[i] = -1;
+        this.x[i] = x;
+        this.y[i] = y;
+        heading[i] = angle;
+        radius[i] = RADII[kind];
+        setColor(i, COLORS[kind].r, COLORS[kind].g, COLORS[kind].b, COLORS[kind].a);
+
+        return i;
+    }
+
+    /**
+     * Tints a bullet.
+     */
+    public void setColor(int i, float r, float g, float b, float a) {
+        colorMode[i] = SOLID;
+        color[i] = Color.toFloatBits(r, g, b, a);
+        setChannels(colorFrom, i, r, g, b, a);
+    }
+
+    /**
+     * Makes every channel of the color of a bullet change at a constant rate from the color it has now,
+     * staying between 0 and 1.
+     *
+     * @param i the index of the bullet
+     */
+    public void setColorFade(int i, float r, float g, float b, float a) {
+        colorMode[i] = FADE;
+        setChannels(colorTo, i, r, g, b, a);
+    }
+
+    /**
+     * Makes the color of a bullet swing back and forth between the color it has now and another one.
+     *
+     * @param i         the index of the bullet
+     * @param frequency how many times a second the color swings back and forth
+     */
+    public void setColorPulse(int i, float r, float g, float b, float a, float frequency) {
+        colorMode[i] = PULSE;
+        colorFrequency[i] = frequency;
+        setChannels(colorTo, i, r, g, b, a);
+    }
+
+    /**
+     * Makes a bullet change speed every second until it reaches the limit. Nothing happens if the bullet
+     * is already past the limit in the direction it would change in.
+     *
+     * @param i            the index of the bullet
+     * @param acceleration how much the speed changes every second
+     * @param limit        the speed to stop at
+     */
+    public void setAcceleration(int i, float acceleration, float limit) {
+        trajectory[i] = EASED;
+        paramA[i] = acceleration;
+        paramB[i] = limit;
+    }
+
+    /**
+     * Makes a bullet weave from side to side as it moves.
+     *
+     * @param i         the index of the bullet
+     * @param amplitude how far to either side the bullet weaves
+     * @param frequency how many times a second the bullet weaves back and forth
+     */
+    public void setWave(int i, float amplitude, float frequency) {
+        trajectory[i] = WAVE;
+        paramA[i] = amplitude;
+        paramB[i] = frequency;
+    }
+
+    /**
+     * Makes a bullet turn at a constant rate, moving along a circle.
+     *
+     * @param i         the index of the bullet
+     * @param turnSpeed how far the bullet turns every second, in degrees
+     */
+    public void setTurnSpeed(int i, float turnSpeed) {
+        trajectory[i] = turnSpeed == 0 ? LINEAR : ORBIT;
+        paramA[i] = turnSpeed;
+    }
+
+    /**
+     * Makes a bullet disappear after some time. Bullets with a lifetime are not removed when they leave the screen,
+     * since they might come back.
+     *
+     * @param i        the index of the bullet
+     * @param lifetime how many seconds the bullet lasts
+     */
+    public void setLifetime(int i, float lifetime) {
+        this.lifetime[i] = lifetime;
+    }
+
+    /**
+     * Works out where a bullet is at some point in its life, without changing it.
+     *
+     * @param i    the index of the bullet
+     * @param time how many seconds after the bullet spawned
+     * @param out  the {@link Vector2} to put the position into
+     * @return the same {@code Vector2} that was passed in
+     */
+    public Vector2 positionAt(int i, float time, Vector2 out) {
+        float
+            cos = MathUtils.cosDeg(angle[i]),
+            sin = MathUtils.sinDeg(angle[i]),
+            v = speed[i] * 60,
+            distance;
+
+        switch (trajectory[i]) {
+            case EASED: {
+                float
+                    acceleration = paramA[i] * 60,
+                    limit = paramB[i] * 60,
+                    reach = acceleration == 0 ? 0 : Math.max((limit - v) / acceleration, 0);
+
+                if (time < reach)
+                    distance = v * time + acceleration * time * time / 2;
+                else
+                    distance = v * reach + acceleration * reach * reach / 2 + (reach > 0 ? limit : v) * (time - reach);
+
+                return out.set(originX[i] + cos * distance, originY[i] + sin * distance);
+            }
+            case WAVE: {
+                float side = paramA[i] * MathUtils.sin(MathUtils.PI2 * paramB[i] * time);
+                distance = v * time;
+
+                return out.set(originX[i] + cos * distance - sin * side, originY[i] + sin * distance + cos * side);
+            }
+            case ORBIT: {
+                float
+                    turn = angle[i] + paramA[i] * time,
+                    r = v / (paramA[i] * MathUtils.degreesToRadians);
+
+                return out.set(originX[i] + r * (MathUtils.sinDeg(turn) - sin), originY[i] - r * (MathUtils.cosDeg(turn) - cos));
+            }
+            default:
+                distance = v * time;
+
+                return out.set(originX[i] + cos * distance, originY[i] + sin * distance);
+        }
+    }
+
+    /**
+     * @return the amount of live bullets
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Makes room for the specified amount of bullets ahead of time, so the world doesn't have to grow mid-fight.
+     *
+     * @param capacity the amount of bullets to make room for
+     */
+    public void reserve(int capacity) {
+        if (capacity > x.length)
+            resize(capacity);
+    }
+
+    /**
+     * Removes every bullet.
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    @Override
+    public void update(float deltaTime) {
+        // Fading and pulsing are only for looks, so bullets just keep the color they spawned with when quality is low
+        final boolean SHIFT = QualityGovernor.tierOf(getEngine()) < QualityGovernor.LOW;
+        if (!SHIFT && shifting) {
+            for (int b = 0; b < size; b++) {
+                int c = b * 4;
+
+                if (colorMode[b] != SOLID)
+                    color[b] = Color.toFloatBits(colorFrom[c], colorFrom[c + 1], colorFrom[c + 2], colorFrom[c + 3]);
+            }
+        }
+        shifting = SHIFT;
+
+        int i = 0;
+        while (i < size) {
+            float t = age[i] += deltaTime;
+
+            if (lifetime[i] >= 0 && t >= lifetime[i]) {
+                remove(i);
+                continue;
+            }
+
+            positionAt(i, t, POSITION);
+            x[i] = POSITION.x;
+            y[i] = POSITION.y;
+            if (trajectory[i] == ORBIT)
+                heading[i] = angle[i] + paramA[i] * t;
+
+            if (SHIFT && colorMode[i] != SOLID)
+                color[i] = colorAt(i, t);
+
+            float half = SIZES[kind[i]] / 2;
+            if (lifetime[i] < 0 && (x[i] < -half || y[i] < -half || x[i] > WIDTH + half || y[i] > HEIGHT + half))
+                remove(i);
+            else
+                i++;
+        }
+
+        for (int p = 0; p < players.size(); p++)
+            collide(players.get(p));
+    }
+
+    /**
+     * Hurts the player with every bullet that touches its collider, removing those bullets.
+     */
+    private void collide(Entity player) {
+        final ColliderComponent COLLIDER = Mapper.COLLIDER.get(player);
+        final HealthComponent HEALTH = Mapper.HEALTH.get(player);
+
+        int i = 0;
+        while (i < size && !HEALTH.invincible) {
+            float
+                dx = x[i] - MathUtils.clamp(x[i], COLLIDER.minX, COLLIDER.maxX),
+                dy = y[i] - MathUtils.clamp(y[i], COLLIDER.minY, COLLIDER.maxY);
+
+            if (dx * dx + dy * dy < radius[i] * radius[i]) {
+                HEALTH.health -= damage[i];
+                remove(i);
+            } else
+                i++;
+        }
+    }
+
+    /**
+     * Draws every bullet. The batch has to have been started already.
+     *
+     * @param batch the {@link Batch} to draw with
+     */
+    public void draw(Batch batch) {
+        for (int i = 0; i < size; i++) {
+            float s = SIZES[kind[i]];
+
+            batch.setPackedColor(color[i]);
+            batch.draw(REGIONS[kind[i]], x[i] - s / 2, y[i] - s / 2, s / 2, s / 2, s, s, 1, 1, heading[i]);
+        }
+
+        batch.setPackedColor(Color.WHITE_FLOAT_BITS);
+    }
+
+    /**
+     * Works out the packed color of a bullet at some point in its life.
+     */
+    private float colorAt(int i, float time) {
+        int c = i * 4;
+
+        if (colorMode[i] == FADE)
+            return Color.toFloatBits(
+                MathUtils.clamp(colorFrom[c] + colorTo[c] * time, 0, 1),
+                MathUtils.clamp(colorFrom[c + 1] + colorTo[c + 1] * time, 0, 1),
+                MathUtils.clamp(colorFrom[c + 2] + colorTo[c + 2] * time, 0, 1),
+                MathUtils.clamp(colorFrom[c + 3] + colorTo[c + 3] * time, 0, 1)
+            );
+
+        float progress = (MathUtils.cos(MathUtils.PI2 * colorFrequency[i] * time) + 1) / 2;
+        return Color.toFloatBits(
+            MathUtils.lerp(colorFrom[c], colorTo[c], progress),
+            MathUtils.lerp(colorFrom[c + 1], colorTo[c + 1], progress),
+            MathUtils.lerp(colorFrom[c + 2], colorTo[c + 2], progress),
+            MathUtils.lerp(colorFrom[c + 3], colorTo[c + 3], progress)
+        );
+    }
+
+    private static void setChannels(float[] channels, int i, float r, float g, float b, float a) {
+        int c = i * 4;
+
+        channels[c] = r;
+        channels[c + 1] = g;
+        channels[c + 2] = b;
+        channels[c + 3] = a;
+    }
+
+    /**
+     * Moves the last bullet into the slot of the one being removed.
+     */
+    private void remove(int i) {
+        int last = --size;
+
+        kind[i] = kind[last];
+        damage[i] = damage[last];
+        trajectory[i] = trajectory[last];
+        colorMode[i] = colorMode[last];
+        originX[i] = originX[last];
+        originY[i] = originY[last];
+        angle[i] = angle[last];
+        speed[i] = speed[last];
+        paramA[i] = paramA[last];
+        paramB[i] = paramB[last];
+        age[i] = age[last];
+        lifetime[i] = lifetime[last];
+        x[i] = x[last];
+        y[i] = y[last];
+        heading[i] = heading[last];
+        radius[i] = radius[last];
+        color[i] = color[last];
+        System.arraycopy(colorFrom, last * 4, colorFrom, i * 4, 4);
+        System.arraycopy(colorTo, last * 4, colorTo, i * 4, 4);
+        colorFrequency[i] = colorFrequency[last];
+    }
+
+    private void resize(int capacity) {
+        kind = Arrays.copyOf(kind, capacity);
+        damage = Arrays.copyOf(damage, capacity);
+        trajectory = Arrays.copyOf(trajectory, capacity);
+        colorMode = Arrays.copyOf(colorMode, capacity);
+        originX = Arrays.copyOf(originX, capacity);
+        originY = Arrays.copyOf(originY, capacity);
+        angle = Arrays.copyOf(angle, capacity);
+        speed = Arrays.copyOf(speed, capacity);
+        paramA = Arrays.copyOf(paramA, capacity);
+        paramB = Arrays.copyOf(paramB, capacity);
+        age = Arrays.copyOf(age, capacity);
+        lifetime = Arrays.copyOf(lifetime, capacity);
+        x = Arrays.copyOf(x, capacity);
+        y = Arrays.copyOf(y, capacity);
+        heading = Arrays.copyOf(heading, capacity);
+        radius = Arrays.copyOf(radius, capacity);
+        color = Arrays.copyOf(color, capacity);
+        colorFrom = Arrays.copyOf(colorFrom, capacity * 4);
+        colorTo = Arrays.copyOf(colorTo, capacity * 4);
+        colorFrequency = Arrays.copyOf(colorFrequency, capacity);
+    }
+}
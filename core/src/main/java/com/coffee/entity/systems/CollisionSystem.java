@@ -1,6 +1,8 @@
 package com.coffee.entity.systems;
 
+import com.badlogic.ashley.core.Engine;
 import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.EntityListener;
 import com.badlogic.ashley.core.EntitySystem;
 import com.badlogic.ashley.core.Family;
 import com.badlogic.ashley.systems.IteratingSystem;
@@ -9,47 +11,185 @@ import com.badlogic.gdx.graphics.Camera;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.math.Intersector;
 import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
 import com.badlogic.gdx.utils.viewport.Viewport;
 import com.coffee.entity.components.ColliderComponent;
 import com.coffee.entity.components.TransformComponent;
+import com.coffee.util.Broadphase;
+import com.coffee.util.CollisionHandler;
+import com.coffee.util.CollisionLayer;
+import com.coffee.util.LongSet;
+import com.coffee.util.LooseQuadTree;
 import com.coffee.util.Mapper;
+import com.coffee.util.Narrowphase;
 import com.coffee.util.QuadTree;
+import com.coffee.util.SpatialHashGrid;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Supplier;
 
 /**
  * {@link EntitySystem} that updates the location of collision boxes and
  * checks for collisions.
+ * <p>
+ * Every {@link CollisionLayer} gets its own {@link Broadphase}, and only the layer pairs that
+ * some collider actually has in its mask are ever looked up. Each unordered pair of colliders is tested once,
+ * by {@link Narrowphase}, with a single reused translation vector.
+ * <p>
+ * Pairs are queued up first, tested, and only then are their handlers called. This keeps handlers that remove
+ * entities or change health from running in the middle of the tests, and lets the tests optionally be split
+ * across a {@link ForkJoinPool}; see {@link #setPool(ForkJoinPool)}.
+ * <p>
+ * Every pair that is overlapping is remembered until it stops overlapping, so each {@link CollisionHandler}
+ * gets one {@code enterCollision} when a contact starts, {@code whileCollision} every frame after that, and one
+ * {@code exitCollision} once it ends. The {@code collidingWith} array of each collider is kept up to date
+ * along with it. Pairs where neither body moved since last frame keep last frame's result instead of being tested again.
+ * <p>
+ * The broadphases built every frame can also be queried by anything else through {@link #overlapCircle},
+ * {@link #overlapRect}, {@link #raycast} and {@link #nearest}.
  *
  * @author Phillip O'Reggio
  */
 public class CollisionSystem extends IteratingSystem {
-    private final QuadTree TREE;
+    /** The least amount of pairs it takes for the narrowphase to be split between threads. */
+    private static final int PARALLEL_THRESHOLD = 256;
+
+    private final Broadphase[] TREES;
+    private final Array<Entity>[] LAYERS;
+    private final int[] LAYER_MASKS;
     private final Array<Entity> POSSIBLE_COLLISIONS;
+    private final Intersector.MinimumTranslationVector MTV, QUERY_MTV;
+    private final Array<Entity> QUERY;
+    private final ColliderComponent CIRCLE_PROBE, BOX_PROBE;
+    private final PairBuffer PAIRS;
+    private final Array<Entity> BY_ID;
+    private final IntArray FREE_IDS, RELEASED_IDS;
+    private final EntityListener ID_LISTENER;
+    private LongSet contacts, lastContacts;
+    private final RecursiveAction ROOT_TASK;
+    private NarrowphaseTask[] workers;
+    private ForkJoinPool pool;
     private ShapeRenderer renderer;
     private Camera camera;
+    private int pairCount;
     public boolean isDebugging;
 
-    public CollisionSystem(ShapeRenderer r, Viewport v, boolean debug) {
+    /**
+     * Creates the system with the specified kind of {@link Broadphase} to look up possible collisions with.
+     *
+     * @param r          the {@code ShapeRenderer} to debug draw the broadphase with, or null to not draw it
+     * @param v          the {@code Viewport} whose camera to draw with
+     * @param broadphase creates the {@code Broadphase} for each collision layer
+     * @param debug      whether or not this system is being debugged
+     */
+    @SuppressWarnings("unchecked")
+    public CollisionSystem(ShapeRenderer r, Viewport v, Supplier<Broadphase> broadphase, boolean debug) {
         super(Family.all(ColliderComponent.class, TransformComponent.class).get());
-        TREE = new QuadTree(0, new Rectangle((v.getWorldWidth() - v.getWorldHeight()) / 2, 0, v.getWorldHeight(), v.getWorldHeight()));
+        TREES = new Broadphase[CollisionLayer.COUNT];
+        LAYERS = (Array<Entity>[]) new Array<?>[CollisionLayer.COUNT];
+        LAYER_MASKS = new int[CollisionLayer.COUNT];
+
+        for (int i = 0; i < CollisionLayer.COUNT; i++) {
+            TREES[i] = broadphase.get();
+            LAYERS[i] = new Array<>();
+        }
 
         renderer = r;
         camera = v.getCamera();
         POSSIBLE_COLLISIONS = new Array<>();
+        MTV = new Intersector.MinimumTranslationVector();
+        QUERY_MTV = new Intersector.MinimumTranslationVector();
+        QUERY = new Array<>();
+        CIRCLE_PROBE = new ColliderComponent();
+        CIRCLE_PROBE.setCircle(1);
+        BOX_PROBE = new ColliderComponent();
+        BOX_PROBE.setBox(1, 1);
+        PAIRS = new PairBuffer();
+        BY_ID = new Array<>();
+        BY_ID.add(null); // 0 is never an id
+        FREE_IDS = new IntArray();
+        RELEASED_IDS = new IntArray();
+        contacts = new LongSet();
+        lastContacts = new LongSet();
+        ID_LISTENER = new EntityListener() {
+            @Override
+            public void entityAdded(Entity entity) {
+                assignId(entity);
+            }
+
+            @Override
+            public void entityRemoved(Entity entity) {
+                releaseId(entity);
+            }
+        };
+        ROOT_TASK = new RecursiveAction() {
+            @Override
+            protected void compute() {
+                invokeAll(workers);
+            }
+        };
 
         isDebugging = debug;
     }
 
+    public CollisionSystem(ShapeRenderer r, Viewport v, boolean debug) {
+        this(r, v, () -> createLooseQuadTree(v), debug);
+    }
+
+    public CollisionSystem(Viewport v, Supplier<Broadphase> broadphase) {
+        this(null, v, broadphase, false);
+    }
+
     public CollisionSystem(Viewport v) {
         this(null, v, false);
     }
 
+    /**
+     * Creates a {@link QuadTree} broadphase, a square that covers the entire world.
+     *
+     * @param v the {@code Viewport} whose world to cover
+     * @return a {@code QuadTree} centered on the world
+     */
+    public static Broadphase createQuadTree(Viewport v) {
+        return new QuadTree(0, new Rectangle((v.getWorldWidth() - v.getWorldHeight()) / 2, 0, v.getWorldHeight(), v.getWorldHeight()));
+    }
+
+    /**
+     * Creates the default {@link LooseQuadTree} broadphase, a square that covers the entire world.
+     * Its nodes are kept between frames, so bodies that barely move barely cost anything to update.
+     *
+     * @param v the {@code Viewport} whose world to cover
+     * @return a {@code LooseQuadTree} centered on the world
+     */
+    public static Broadphase createLooseQuadTree(Viewport v) {
+        return new LooseQuadTree(new Rectangle((v.getWorldWidth() - v.getWorldHeight()) / 2, 0, v.getWorldHeight(), v.getWorldHeight()));
+    }
+
+    /**
+     * Creates a {@link SpatialHashGrid} broadphase that covers the entire world.
+     *
+     * @param v the {@code Viewport} whose world to cover
+     * @return a {@code SpatialHashGrid} with 40 unit cells
+     */
+    public static Broadphase createSpatialHashGrid(Viewport v) {
+        return new SpatialHashGrid(new Rectangle(0, 0, v.getWorldWidth(), v.getWorldHeight()), 40);
+    }
+
     public void update(float deltaTime) {
-        // Clear tree
-        TREE.clear();
+        // Clear trees
+        for (int i = 0; i < CollisionLayer.COUNT; i++) {
+            TREES[i].clear();
+            LAYERS[i].clear();
+            LAYER_MASKS[i] = 0;
+        }
+        pairCount = 0;
 
         // Update position of all collision bodies
-        // then add them to the tree
+        // then add them to the tree of their layer
         ImmutableArray<Entity> entities = getEntities();
         int length = entities.size();
         for (int i = 0; i < length; i++) {
@@ -62,54 +202,575 @@ public class CollisionSystem extends IteratingSystem {
                 transX = curTrans.POSITION.x + curTrans.ORIGIN.x,
                 transY = curTrans.POSITION.y + curTrans.ORIGIN.y;
 
-            curCollider.BODY.setPosition(transX - curCollider.BODY.getOriginX(), transY - curCollider.BODY.getOriginX());
+            // Bounds and vertices are only recomputed if the body changed since last frame
+            curCollider.moved = curCollider.update(transX, transY);
+
+            if (curCollider.layer == CollisionLayer.NONE)
+                continue;
 
-            TREE.insert(e);
+            int layer = CollisionLayer.indexOf(curCollider.layer);
+            curCollider.proxy = LAYERS[layer].size;
+            LAYERS[layer].add(e);
+            LAYER_MASKS[layer] |= curCollider.mask;
+            TREES[layer].insert(e);
         }
 
         // Debug if necessary
         if (renderer != null) {
             renderer.setProjectionMatrix(camera.combined);
-            TREE.draw(renderer);
+            drawBroadphase(renderer);
+        }
+
+        // Only look up the layer pairs that anything on either layer cares about
+        for (int i = 0; i < CollisionLayer.COUNT; i++) {
+            for (int j = i; j < CollisionLayer.COUNT; j++) {
+                if (LAYERS[i].size == 0 || LAYERS[j].size == 0)
+                    continue;
+
+                boolean interact = (LAYER_MASKS[i] & (1 << j)) != 0 || (LAYER_MASKS[j] & (1 << i)) != 0;
+                if (!interact)
+                    continue;
+
+                if (i == j)
+                    processLayer(i);
+                else if (LAYERS[i].size <= LAYERS[j].size)
+                    processLayers(i, j);
+                else
+                    processLayers(j, i);
+            }
+        }
+
+        // Run the geometric tests, then react to them in the order the pairs were found
+        if (pool != null && pairCount >= PARALLEL_THRESHOLD)
+            testPairsParallel();
+        else
+            testPairs(0, pairCount, MTV);
+
+        for (int i = 0; i < pairCount; i++) {
+            if (PAIRS.hit[i])
+                dispatchPair(i);
+        }
+
+        // Anything that was touching last frame but not anymore has exited
+        for (int i = 0; i < lastContacts.capacity(); i++) {
+            long key = lastContacts.get(i);
+
+            if (key != 0 && !contacts.contains(key))
+                exitPair((int) (key >>> 32), (int) key);
+        }
+
+        LongSet temp = lastContacts;
+        lastContacts = contacts;
+        contacts = temp;
+        contacts.clear();
+
+        // Ids of removed entities are safe to reuse once their contacts are gone
+        for (int i = 0; i < RELEASED_IDS.size; i++) {
+            BY_ID.set(RELEASED_IDS.get(i), null);
+            FREE_IDS.add(RELEASED_IDS.get(i));
+        }
+        RELEASED_IDS.clear();
+    }
+
+    /**
+     * Packs the ids of two colliders into one key, the same no matter which order they are given in.
+     */
+    private static long pairKey(int id, int id2) {
+        return id < id2 ? ((long) id << 32) | id2 : ((long) id2 << 32) | id;
+    }
+
+    /**
+     * Queues up every pair of colliders on a layer against the rest of the layer, once per pair.
+     */
+    private void processLayer(int layer) {
+        final Array<Entity> MEMBERS = LAYERS[layer];
+
+        for (int i = 0; i < MEMBERS.size; i++) {
+            Entity entity = MEMBERS.get(i);
+            int proxy = Mapper.COLLIDER.get(entity).proxy;
+
+            POSSIBLE_COLLISIONS.clear();
+            TREES[layer].retrieve(POSSIBLE_COLLISIONS, entity);
+
+            for (Entity other : POSSIBLE_COLLISIONS) {
+                if (Mapper.COLLIDER.get(other).proxy > proxy)
+                    queuePair(entity, other);
+            }
+        }
+    }
+
+    /**
+     * Queues up every collider on the smaller layer against the tree of the bigger layer.
+     */
+    private void processLayers(int small, int big) {
+        final Array<Entity> MEMBERS = LAYERS[small];
+
+        for (int i = 0; i < MEMBERS.size; i++) {
+            Entity entity = MEMBERS.get(i);
+
+            POSSIBLE_COLLISIONS.clear();
+            TREES[big].retrieve(POSSIBLE_COLLISIONS, entity);
+
+            for (Entity other : POSSIBLE_COLLISIONS)
+                queuePair(entity, other);
+        }
+    }
+
+    /**
+     * Adds a pair of colliders to be tested, as long as either side is interested in the other's layer.
+     */
+    private void queuePair(Entity entity, Entity entity2) {
+        final ColliderComponent
+            curCollider = Mapper.COLLIDER.get(entity),
+            otherCollider = Mapper.COLLIDER.get(entity2);
+
+        if ((curCollider.mask & otherCollider.layer) == 0 && (otherCollider.mask & curCollider.layer) == 0)
+            return;
+
+        int i = pairCount++;
+        PAIRS.add(i, entity, entity2, curCollider, otherCollider);
+
+        // If neither body changed, last frame's answer still holds.
+        // Solid pairs are always retested since they need a translation vector to push apart.
+        PAIRS.cached[i] = !curCollider.moved && !otherCollider.moved && !(curCollider.solid && otherCollider.solid);
+        if (PAIRS.cached[i])
+            PAIRS.hit[i] = lastContacts.contains(pairKey(curCollider.id, otherCollider.id));
+    }
+
+    /**
+     * Runs the narrowphase on a range of queued pairs. Only touches that range of the pair buffers,
+     * so separate ranges can safely be tested on separate threads.
+     */
+    private void testPairs(int from, int to, Intersector.MinimumTranslationVector mtv) {
+        for (int i = from; i < to; i++) {
+            if (PAIRS.cached[i])
+                continue;
+
+            boolean hit = Narrowphase.overlaps(PAIRS.colliderA[i], PAIRS.colliderB[i], mtv);
+
+            PAIRS.hit[i] = hit;
+            if (hit) {
+                PAIRS.normalX[i] = mtv.normal.x;
+                PAIRS.normalY[i] = mtv.normal.y;
+                PAIRS.depth[i] = mtv.depth;
+            }
+        }
+    }
+
+    /**
+     * Splits the queued pairs evenly between the workers and waits for all of them to finish.
+     */
+    private void testPairsParallel() {
+        int chunk = (pairCount + workers.length - 1) / workers.length;
+
+        for (int i = 0; i < workers.length; i++) {
+            workers[i].from = Math.min(i * chunk, pairCount);
+            workers[i].to = Math.min(workers[i].from + chunk, pairCount);
+            workers[i].reinitialize();
+        }
+
+        ROOT_TASK.reinitialize();
+        pool.invoke(ROOT_TASK);
+    }
+
+    /**
+     * Notifies whichever sides of an overlapping pair are interested in the other's layer,
+     * either that the contact just started or that it is still going on.
+     */
+    private void dispatchPair(int i) {
+        final Entity
+            entity = PAIRS.entityA[i],
+            entity2 = PAIRS.entityB[i];
+        final ColliderComponent
+            curCollider = PAIRS.colliderA[i],
+            otherCollider = PAIRS.colliderB[i];
+
+        boolean
+            curWants = (curCollider.mask & otherCollider.layer) != 0,
+            otherWants = (otherCollider.mask & curCollider.layer) != 0;
+
+        long key = pairKey(curCollider.id, otherCollider.id);
+        contacts.add(key);
+
+        if (lastContacts.contains(key)) {
+            if (curWants && curCollider.handler != null)
+                curCollider.handler.whileCollision(entity, entity2, getEngine());
+            if (otherWants && otherCollider.handler != null)
+                otherCollider.handler.whileCollision(entity2, entity, getEngine());
+        } else {
+            curCollider.collidingWith.add(entity2);
+            otherCollider.collidingWith.add(entity);
+
+            if (curWants && curCollider.handler != null)
+                curCollider.handler.enterCollision(entity, entity2, getEngine());
+            if (otherWants && otherCollider.handler != null)
+                otherCollider.handler.enterCollision(entity2, entity, getEngine());
         }
 
-        // Process entities
-        super.update(deltaTime);
+        // If both objects are solid, move them out of each other.
+        if (curCollider.solid && otherCollider.solid) {
+            float
+                dx = PAIRS.normalX[i] * PAIRS.depth[i],
+                dy = PAIRS.normalY[i] * PAIRS.depth[i];
+
+            Mapper.TRANSFORM.get(entity).POSITION.add(dx, dy);
+            Mapper.TRANSFORM.get(entity2).POSITION.sub(dx, dy);
+        }
+    }
+
+    /**
+     * Notifies whichever sides of a pair that stopped overlapping are still around and interested in the other.
+     * Sides that are still around stop listing the other as something they are colliding with either way.
+     */
+    private void exitPair(int id, int id2) {
+        final Entity
+            entity = BY_ID.get(id),
+            entity2 = BY_ID.get(id2);
+        final ColliderComponent
+            curCollider = getCollider(id),
+            otherCollider = getCollider(id2);
+
+        if (curCollider != null) {
+            curCollider.collidingWith.removeValue(entity2, true);
+
+            if (otherCollider != null && (curCollider.mask & otherCollider.layer) != 0 && curCollider.handler != null)
+                curCollider.handler.exitCollision(entity, entity2, getEngine());
+        }
+
+        if (otherCollider != null) {
+            otherCollider.collidingWith.removeValue(entity, true);
+
+            if (curCollider != null && (otherCollider.mask & curCollider.layer) != 0 && otherCollider.handler != null)
+                otherCollider.handler.exitCollision(entity2, entity, getEngine());
+        }
+    }
+
+    @Override
+    public void addedToEngine(Engine engine) {
+        super.addedToEngine(engine);
+        engine.addEntityListener(getFamily(), ID_LISTENER);
+
+        for (Entity e : getEntities())
+            assignId(e);
+    }
+
+    @Override
+    public void removedFromEngine(Engine engine) {
+        super.removedFromEngine(engine);
+        engine.removeEntityListener(ID_LISTENER);
+    }
+
+    /**
+     * Gives the collider of an {@link Entity} the lowest id that is not being used.
+     */
+    private void assignId(Entity entity) {
+        ColliderComponent collider = Mapper.COLLIDER.get(entity);
+
+        if (FREE_IDS.size > 0) {
+            collider.id = FREE_IDS.pop();
+            BY_ID.set(collider.id, entity);
+        } else {
+            collider.id = BY_ID.size;
+            BY_ID.add(entity);
+        }
+    }
+
+    /**
+     * Holds onto the id of an {@link Entity} that left until its contacts have been exited,
+     * so a new collider can't take over its pairs in the meantime.
+     */
+    private void releaseId(Entity entity) {
+        ColliderComponent collider = Mapper.COLLIDER.get(entity);
+        int id = collider != null ? collider.id : BY_ID.indexOf(entity, true);
+
+        if (collider != null)
+            collider.id = 0;
+        if (id > 0)
+            RELEASED_IDS.add(id);
+    }
+
+    /**
+     * Gets the collider with the specified id, as long as it is still in the engine.
+     */
+    private ColliderComponent getCollider(int id) {
+        ColliderComponent collider = Mapper.COLLIDER.get(BY_ID.get(id));
+        return collider != null && collider.id == id ? collider : null;
     }
 
     public void processEntity(Entity entity, float deltaTime) {
-        ColliderComponent curCollider = Mapper.COLLIDER.get(entity);
-        TransformComponent curTrans = Mapper.TRANSFORM.get(entity);
+        // Pairs are processed by layer in update
+    }
 
-        // Clear list
-        POSSIBLE_COLLISIONS.clear();
+    /**
+     * Gets every {@link Entity} on the specified layers whose collider overlaps a circle,
+     * as of the last time this system updated.
+     *
+     * @param x      the x-coordinate of the center of the circle
+     * @param y      the y-coordinate of the center of the circle
+     * @param radius the radius of the circle
+     * @param layers the {@link CollisionLayer}s to look on
+     * @param out    the {@code Array<Entity>} to add the entities to
+     * @return the same {@code Array<Entity>} that was passed in
+     */
+    public Array<Entity> overlapCircle(float x, float y, float radius, int layers, Array<Entity> out) {
+        CIRCLE_PROBE.BODY.setScale(radius, radius);
+        CIRCLE_PROBE.update(x, y);
 
-        // Get possible collisions
-        TREE.retrieve(POSSIBLE_COLLISIONS, entity);
-        POSSIBLE_COLLISIONS.removeValue(entity, true);
+        return overlapProbe(CIRCLE_PROBE, x - radius, y - radius, x + radius, y + radius, layers, out);
+    }
+
+    /**
+     * Gets every {@link Entity} on the specified layers whose collider overlaps a rectangle,
+     * as of the last time this system updated.
+     *
+     * @param x      the x-coordinate of the bottom left corner of the rectangle
+     * @param y      the y-coordinate of the bottom left corner of the rectangle
+     * @param width  the width of the rectangle
+     * @param height the height of the rectangle
+     * @param layers the {@link CollisionLayer}s to look on
+     * @param out    the {@code Array<Entity>} to add the entities to
+     * @return the same {@code Array<Entity>} that was passed in
+     */
+    public Array<Entity> overlapRect(float x, float y, float width, float height, int layers, Array<Entity> out) {
+        BOX_PROBE.BODY.setScale(width, height);
+        BOX_PROBE.update(x + width / 2, y + height / 2);
+
+        return overlapProbe(BOX_PROBE, x, y, x + width, y + height, layers, out);
+    }
+
+    private Array<Entity> overlapProbe(ColliderComponent probe, float minX, float minY, float maxX, float maxY, int layers, Array<Entity> out) {
+        queryLayers(minX, minY, maxX, maxY, layers);
+
+        for (int i = 0; i < QUERY.size; i++) {
+            Entity e = QUERY.get(i);
+
+            if (Narrowphase.overlaps(probe, Mapper.COLLIDER.get(e), QUERY_MTV))
+                out.add(e);
+        }
+
+        return out;
+    }
 
-        // Check for collisions
-        for (Entity entity2 : POSSIBLE_COLLISIONS) {
-            ColliderComponent otherCollider = Mapper.COLLIDER.get(entity2);
-            Intersector.MinimumTranslationVector mtv = new Intersector.MinimumTranslationVector();
+    /**
+     * Casts a ray against every collider on the specified layers, as of the last time this system updated.
+     *
+     * @param x      the x-coordinate the ray starts at
+     * @param y      the y-coordinate the ray starts at
+     * @param dirX   the x-component of the direction of the ray
+     * @param dirY   the y-component of the direction of the ray
+     * @param length how far the ray goes
+     * @param layers the {@link CollisionLayer}s to look on
+     * @param out    the {@code Array<Entity>} to add every hit entity to, or null to only get the closest
+     * @return the closest {@code Entity} that the ray hit, or null if it did not hit anything
+     */
+    public Entity raycast(float x, float y, float dirX, float dirY, float length, int layers, Array<Entity> out) {
+        float len = (float) Math.sqrt(dirX * dirX + dirY * dirY);
+        if (len == 0)
+            return null;
 
-            if (Intersector.overlapConvexPolygons(curCollider.BODY, otherCollider.BODY, mtv)) {
-                // Technically, we have entered collision.
-                curCollider.handler.enterCollision(entity2);
+        dirX /= len;
+        dirY /= len;
 
-                // If both objects are solid, move them out of each other.
-                if (curCollider.solid && otherCollider.solid) {
-                    curTrans.POSITION.add(mtv.normal.scl(mtv.depth));
+        float
+            endX = x + dirX * length,
+            endY = y + dirY * length;
 
-                    curCollider.handler.exitCollision(entity2);
-                } else {
+        queryLayers(Math.min(x, endX), Math.min(y, endY), Math.max(x, endX), Math.max(y, endY), layers);
 
-                }
+        Entity closest = null;
+        float closestDistance = Float.MAX_VALUE;
+
+        for (int i = 0; i < QUERY.size; i++) {
+            Entity e = QUERY.get(i);
+            float distance = Narrowphase.raycast(Mapper.COLLIDER.get(e), x, y, dirX, dirY, length);
+
+            if (distance < 0)
+                continue;
+
+            if (out != null)
+                out.add(e);
+
+            if (distance < closestDistance) {
+                closest = e;
+                closestDistance = distance;
             }
         }
+
+        return closest;
     }
 
-    public QuadTree getTree() {
-        return TREE;
+    /**
+     * Gets the {@link Entity} on the specified layers whose collider is centered closest to a point,
+     * as of the last time this system updated. The search starts small and grows, so it only ever looks
+     * at the part of the {@link Broadphase} around the point.
+     *
+     * @param x      the x-coordinate of the point
+     * @param y      the y-coordinate of the point
+     * @param layers the {@link CollisionLayer}s to look on
+     * @return the closest {@code Entity}, or null if there is nothing on those layers
+     */
+    public Entity nearest(float x, float y, int layers) {
+        boolean any = false;
+        for (int i = 0; i < CollisionLayer.COUNT; i++) {
+            if ((layers & (1 << i)) != 0 && LAYERS[i].size > 0)
+                any = true;
+        }
+        if (!any)
+            return null;
+
+        // Grow the search until something turns up
+        float reach = 32;
+        do {
+            queryLayers(x - reach, y - reach, x + reach, y + reach, layers);
+            reach *= 2;
+        } while (QUERY.size == 0 && reach < Float.MAX_VALUE / 2);
+
+        Entity closest = closestCenter(x, y);
+        if (closest == null)
+            return null;
+
+        // Something outside of the square might still be closer than the corners of it
+        float dst = distanceToCenter(closest, x, y);
+        queryLayers(x - dst, y - dst, x + dst, y + dst, layers);
+
+        return QUERY.size > 0 ? closestCenter(x, y) : closest;
+    }
+
+    private Entity closestCenter(float x, float y) {
+        Entity closest = null;
+        float closestDistance = Float.MAX_VALUE;
+
+        for (int i = 0; i < QUERY.size; i++) {
+            Entity e = QUERY.get(i);
+            float distance = distanceToCenter(e, x, y);
+
+            if (distance < closestDistance) {
+                closest = e;
+                closestDistance = distance;
+            }
+        }
+
+        return closest;
+    }
+
+    private static float distanceToCenter(Entity e, float x, float y) {
+        final ColliderComponent COLLIDER = Mapper.COLLIDER.get(e);
+
+        return Vector2.dst(COLLIDER.centerX, COLLIDER.centerY, x, y);
+    }
+
+    /**
+     * Fills the query buffer with everything on the specified layers whose bounds overlap an area.
+     */
+    private void queryLayers(float minX, float minY, float maxX, float maxY, int layers) {
+        QUERY.clear();
+
+        for (int i = 0; i < CollisionLayer.COUNT; i++) {
+            if ((layers & (1 << i)) != 0 && LAYERS[i].size > 0)
+                TREES[i].query(minX, minY, maxX, maxY, QUERY);
+        }
+
+        // The trees are only brought up to date when this system updates, so skip anything that lost its collider since
+        for (int i = QUERY.size - 1; i >= 0; i--) {
+            if (Mapper.COLLIDER.get(QUERY.get(i)) == null)
+                QUERY.removeIndex(i);
+        }
+    }
+
+    /**
+     * Gets the {@link Broadphase} that the colliders on the specified layer are stored in.
+     *
+     * @param layer a single {@link CollisionLayer} flag
+     * @return the {@code Broadphase} of that layer
+     */
+    public Broadphase getTree(int layer) {
+        return TREES[CollisionLayer.indexOf(layer)];
+    }
+
+    /**
+     * Debug draws the {@link Broadphase} of every layer.
+     */
+    public void drawBroadphase(ShapeRenderer r) {
+        for (Broadphase tree : TREES)
+            tree.draw(r);
+    }
+
+    /**
+     * Runs the narrowphase on the specified pool whenever there are enough pairs to make it worth it.
+     * Handlers are still called on the calling thread, in the same order as when running serially,
+     * so this does not change the outcome of any collision.
+     *
+     * @param pool the {@code ForkJoinPool} to test pairs on, or null to test everything on the calling thread
+     */
+    public void setPool(ForkJoinPool pool) {
+        this.pool = pool;
+
+        if (pool != null) {
+            workers = new NarrowphaseTask[pool.getParallelism()];
+            for (int i = 0; i < workers.length; i++)
+                workers[i] = new NarrowphaseTask();
+        }
+    }
+
+    /**
+     * @return the {@code ForkJoinPool} the narrowphase runs on, or null if it runs on the calling thread
+     */
+    public ForkJoinPool getPool() {
+        return pool;
+    }
+
+    /**
+     * Gets the amount of candidate pairs the broadphase handed to the narrowphase last frame.
+     * Useful for comparing {@link Broadphase} implementations against each other.
+     *
+     * @return the amount of candidate pairs checked last frame
+     */
+    public int getPairCount() {
+        return pairCount;
+    }
+
+    /**
+     * Tests one range of the queued pairs with its own translation vector.
+     */
+    private class NarrowphaseTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final Intersector.MinimumTranslationVector MTV = new Intersector.MinimumTranslationVector();
+        private int from, to;
+
+        @Override
+        protected void compute() {
+            testPairs(from, to, MTV);
+        }
+    }
+
+    /**
+     * Buffers of every queued pair and the result of testing it, stored side by side and grown as needed.
+     */
+    private static class PairBuffer {
+        Entity[] entityA = new Entity[64], entityB = new Entity[64];
+        ColliderComponent[] colliderA = new ColliderComponent[64], colliderB = new ColliderComponent[64];
+        float[] normalX = new float[64], normalY = new float[64], depth = new float[64];
+        boolean[] hit = new boolean[64], cached = new boolean[64];
+
+        void add(int i, Entity a, Entity b, ColliderComponent ca, ColliderComponent cb) {
+            if (i == entityA.length) {
+                int size = i * 2;
+                entityA = Arrays.copyOf(entityA, size);
+                entityB = Arrays.copyOf(entityB, size);
+                colliderA = Arrays.copyOf(colliderA, size);
+                colliderB = Arrays.copyOf(colliderB, size);
+                normalX = Arrays.copyOf(normalX, size);
+                normalY = Arrays.copyOf(normalY, size);
+                depth = Arrays.copyOf(depth, size);
+                hit = Arrays.copyOf(hit, size);
+                cached = Arrays.copyOf(cached, size);
+            }
+
+            entityA[i] = a;
+            entityB[i] = b;
+            colliderA[i] = ca;
+            colliderB[i] = cb;
+        }
     }
 }
@@ -63,7 +63,14 @@ public class DebugDrawSystem extends IteratingSystem {
 
             RENDERER.set(ShapeRenderer.ShapeType.Line);
             RENDERER.setColor(Color.RED);
-            RENDERER.polygon(collider.BODY.getTransformedVertices());
+            if (collider.prototype.TYPE == ColliderComponent.Shape.CIRCLE)
+                RENDERER.circle(
+                        collider.BODY.getX() + collider.BODY.getOriginX(),
+                        collider.BODY.getY() + collider.BODY.getOriginY(),
+                        collider.prototype.RADIUS * collider.BODY.getScaleX()
+                );
+            else
+                RENDERER.polygon(collider.BODY.getTransformedVertices());
         }
     }
 
@@ -74,7 +81,7 @@ public class DebugDrawSystem extends IteratingSystem {
         super.update(dt);
 
         if (drawQuadTree)
-            getEngine().getSystem(CollisionSystem.class).getTree().draw(RENDERER);
+            getEngine().getSystem(CollisionSystem.class).drawBroadphase(RENDERER);
         RENDERER.end();
     }
 
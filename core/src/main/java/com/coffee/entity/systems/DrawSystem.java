@@ -16,7 +16,8 @@ import com.coffee.util.Mapper;
 import java.util.Comparator;
 
 /**
- * Sorts all the entities with sprite components by z-order, then draws all of them.
+ * Sorts all the entities with sprite components by z-order, then draws all of them,
+ * followed by the bullets of the {@link BulletWorld} if there is one.
  * Next, GUI elements are drawn so that they are always on top of sprites.
  *
  * @author Phillip O'Reggio
@@ -40,6 +41,10 @@ public class DrawSystem extends SortedIteratingSystem {
 
         BATCH.begin();
         super.update(deltaTime);
+
+        BulletWorld bullets = getEngine().getSystem(BulletWorld.class);
+        if (bullets != null)
+            bullets.draw(BATCH);
         BATCH.end();
     }
 
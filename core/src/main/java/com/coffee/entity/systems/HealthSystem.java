@@ -6,14 +6,23 @@ import com.badlogic.ashley.systems.IteratingSystem;
 import com.badlogic.gdx.math.MathUtils;
 import com.coffee.entity.components.HealthComponent;
 import com.coffee.util.Mapper;
+import com.coffee.util.TimerHandler;
 
 /**
- * {@link com.badlogic.ashley.core.EntitySystem EntitySystem} that updates
- * {@link HealthComponent}'s invincibility timer, respawn timer, and clamps the health.
+ * {@link com.badlogic.ashley.core.EntitySystem EntitySystem} that starts
+ * {@link HealthComponent}'s invincibility and respawn timers, and clamps the health.
+ * The timers themselves count down in the {@link TimerSystem}.
  *
  * @author Phillip O'Reggio
  */
 public class HealthSystem extends IteratingSystem {
+    private static final TimerHandler TIMER_OVER = (entity, engine) -> {
+        HealthComponent health = Mapper.HEALTH.get(entity);
+
+        if (health != null)
+            health.invincible = health.INVINCIBILITY.isScheduled() || health.RESPAWN.isScheduled();
+    };
+
     public HealthSystem() {
         super(Family.one(HealthComponent.class).get());
     }
@@ -21,23 +30,32 @@ public class HealthSystem extends IteratingSystem {
     public void processEntity(Entity entity, float deltaTime) {
         HealthComponent health = Mapper.HEALTH.get(entity);
 
-        // Decrease invincibility timer
-        if (health.invincibilityTimer > 0) {
-            health.invincibilityTimer -= deltaTime;
-            if (health.invincibilityTimer <= 0)
-                health.invincibilityTimer = 0;
-        }
+        // Clamp health
+        health.health = MathUtils.clamp(health.health, 0, health.maxHealth);
+    }
+
+    /**
+     * Makes the entity invincible for the specified amount of time.
+     *
+     * @param entity  the {@link Entity} with the {@link HealthComponent}
+     * @param seconds how long it is invincible for
+     */
+    public void startInvincibility(Entity entity, float seconds) {
+        HealthComponent health = Mapper.HEALTH.get(entity);
 
-        // Decrease respawn timer
-        if (health.respawnTimer > 0) {
-            health.respawnTimer -= deltaTime;
-            if (health.respawnTimer <= 0)
-                health.respawnTimer = 0;
-        }
+        getEngine().getSystem(TimerSystem.class).schedule(health.INVINCIBILITY, seconds, entity, TIMER_OVER);
+        health.invincible = true;
+    }
 
-        health.invincible = health.invincibilityTimer > 0 || health.respawnTimer > 0;
+    /**
+     * Starts the entity's respawn timer, making it invincible until it is over.
+     *
+     * @param entity the {@link Entity} with the {@link HealthComponent}
+     */
+    public void startRespawn(Entity entity) {
+        HealthComponent health = Mapper.HEALTH.get(entity);
 
-        // Clamp health
-        health.health = MathUtils.clamp(health.health, 0, health.maxHealth);
+        getEngine().getSystem(TimerSystem.class).schedule(health.RESPAWN, health.respawnDuration, entity, TIMER_OVER);
+        health.invincible = true;
     }
 }
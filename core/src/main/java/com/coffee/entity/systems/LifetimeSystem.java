@@ -1,27 +1,48 @@
 package com.coffee.entity.systems;
 
+import com.badlogic.ashley.core.Engine;
 import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.EntityListener;
+import com.badlogic.ashley.core.EntitySystem;
 import com.badlogic.ashley.core.Family;
-import com.badlogic.ashley.systems.IteratingSystem;
 import com.coffee.entity.components.LifetimeComponent;
 import com.coffee.util.Mapper;
 
 /**
+ * {@link EntitySystem} that starts each {@link LifetimeComponent}'s timer in the {@link TimerSystem}
+ * when its entity is added, so the entity gets removed once the timer runs out.
+ *
  * @author Jared Tulayan
  */
-public class LifetimeSystem extends IteratingSystem {
-    public LifetimeSystem() {
-        super(Family.one(LifetimeComponent.class).get());
+public class LifetimeSystem extends EntitySystem implements EntityListener {
+    private final Family FAMILY = Family.one(LifetimeComponent.class).get();
+
+    @Override
+    public void addedToEngine(Engine engine) {
+        engine.addEntityListener(FAMILY, this);
+
+        for (Entity entity : engine.getEntitiesFor(FAMILY))
+            entityAdded(entity);
+    }
+
+    @Override
+    public void removedFromEngine(Engine engine) {
+        engine.removeEntityListener(this);
     }
 
     @Override
-    protected void processEntity(Entity entity, float deltaTime) {
+    public void entityAdded(Entity entity) {
         LifetimeComponent particle = Mapper.LIFETIME.get(entity);
 
-        particle.timer -= deltaTime;
+        getEngine().getSystem(TimerSystem.class).schedule(particle.EXPIRATION, (float) particle.timer, entity, TimerSystem.REMOVE);
+    }
+
+    @Override
+    public void entityRemoved(Entity entity) {
+        LifetimeComponent particle = Mapper.LIFETIME.get(entity);
 
-        if (particle.timer <= 0) {
-            getEngine().removeEntity(entity);
-        }
+        // The component might have been taken off already, in which case its reset cancelled the timer
+        if (particle != null)
+            particle.EXPIRATION.cancel();
     }
 }
@@ -1,27 +1,41 @@
 package com.coffee.entity.systems;
 
+import com.badlogic.ashley.core.Engine;
 import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.EntityListener;
 import com.badlogic.ashley.core.EntitySystem;
 import com.badlogic.ashley.core.Family;
-import com.badlogic.ashley.systems.IteratingSystem;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
-import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.ObjectIntMap;
 import com.badlogic.gdx.utils.viewport.Viewport;
 import com.coffee.entity.components.MovementComponent;
 import com.coffee.entity.components.TransformComponent;
 import com.coffee.util.Mapper;
 
+import java.util.Arrays;
+
 /**
  * This {@link EntitySystem} updates both position and rotation
  * by using velocity values to update transform positions and rotations.
+ * <p>
+ * Every moving entity gets a compact index as soon as it is added, and its components are kept side by side in arrays
+ * under that index, so a frame never has to look anything up and moves every entity in a single pass.
  *
  * @author Jared Tulayan
  */
-public class MovementSystem extends IteratingSystem {
+public class MovementSystem extends EntitySystem implements EntityListener {
+    private static final Family FAMILY = Family.all(TransformComponent.class, MovementComponent.class).get();
+
     private final Viewport VIEWPORT;
     private final ShapeRenderer DEBUG;
     public boolean doDebug = false;
 
+    private final ObjectIntMap<Entity> INDICES = new ObjectIntMap<>();
+    private Entity[] entities = new Entity[256];
+    private TransformComponent[] transforms = new TransformComponent[256];
+    private MovementComponent[] movements = new MovementComponent[256];
+    private int size;
+
     /**
      * Calls {@link MovementSystem#MovementSystem(Viewport)}
      * with the {@link Viewport} as null
@@ -38,7 +52,6 @@ public class MovementSystem extends IteratingSystem {
      *                 projection matrix of the {@code ShapeRenderer}
      */
     public MovementSystem(Viewport viewport) {
-        super(Family.all(TransformComponent.class, MovementComponent.class).get());
         VIEWPORT = viewport;
 
         if (VIEWPORT != null) {
@@ -49,23 +62,88 @@ public class MovementSystem extends IteratingSystem {
     }
 
     @Override
-    protected void processEntity(Entity entity, float deltaTime) {
-        // Start by getting the transform and movement components
-        final TransformComponent curTransform = Mapper.TRANSFORM.get(entity);
-        final MovementComponent curMovement = Mapper.MOVEMENT.get(entity);
-
-        // Store the real normal vector in a temporary object.
-        // This vector requires that we normalize the normal vector and scale it to the move speed magnitude.
-        Vector2 move_vec = new Vector2(curMovement.MOVEMENT_NORMAL).nor().scl((float)curMovement.moveSpeed * 60f * deltaTime);
-
-        // Move and rotate the entity
-        curTransform.POSITION.add(move_vec);
-        curTransform.rotation += curMovement.rotSpeed * 60 * deltaTime;
-
-        // Limit rotation to [0, 360) for easy printouts.
-        if (curTransform.rotation >= 360)
-            curTransform.rotation -= 360;
-        if (curTransform.rotation < 0)
-            curTransform.rotation += 360;
+    public void addedToEngine(Engine engine) {
+        engine.addEntityListener(FAMILY, this);
+
+        for (Entity entity : engine.getEntitiesFor(FAMILY))
+            entityAdded(entity);
+    }
+
+    @Override
+    public void removedFromEngine(Engine engine) {
+        engine.removeEntityListener(this);
+
+        while (size > 0)
+            entityRemoved(entities[size - 1]);
+    }
+
+    @Override
+    public void entityAdded(Entity entity) {
+        if (size == entities.length)
+            resize(size * 2);
+
+        entities[size] = entity;
+        transforms[size] = Mapper.TRANSFORM.get(entity);
+        movements[size] = Mapper.MOVEMENT.get(entity);
+        INDICES.put(entity, size);
+        size++;
+    }
+
+    @Override
+    public void entityRemoved(Entity entity) {
+        // The components might be gone already, so the index has to come from the entity
+        int i = INDICES.remove(entity, -1);
+        if (i < 0)
+            return;
+
+        // Fill the hole with the last entity
+        size--;
+        if (i != size) {
+            entities[i] = entities[size];
+            transforms[i] = transforms[size];
+            movements[i] = movements[size];
+            INDICES.put(entities[i], i);
+        }
+
+        entities[size] = null;
+        transforms[size] = null;
+        movements[size] = null;
+    }
+
+    @Override
+    public void update(float deltaTime) {
+        final float STEP = 60 * deltaTime;
+
+        for (int i = 0; i < size; i++) {
+            final TransformComponent curTransform = transforms[i];
+            final MovementComponent curMovement = movements[i];
+            final float dx = curMovement.MOVEMENT_NORMAL.x, dy = curMovement.MOVEMENT_NORMAL.y;
+
+            // Move and rotate the entity along its normalized movement vector, scaled to its move speed
+            float len2 = dx * dx + dy * dy;
+            float scale = len2 > 0 ? curMovement.moveSpeed * STEP / (float) Math.sqrt(len2) : 0;
+
+            curTransform.POSITION.add(dx * scale, dy * scale);
+            curTransform.rotation += curMovement.rotSpeed * STEP;
+
+            // Limit rotation to [0, 360) for easy printouts.
+            if (curTransform.rotation >= 360)
+                curTransform.rotation -= 360;
+            if (curTransform.rotation < 0)
+                curTransform.rotation += 360;
+        }
+    }
+
+    /**
+     * @return how many entities are being moved
+     */
+    public int size() {
+        return size;
+    }
+
+    private void resize(int capacity) {
+        entities = Arrays.copyOf(entities, capacity);
+        transforms = Arrays.copyOf(transforms, capacity);
+        movements = Arrays.copyOf(movements, capacity);
     }
 }
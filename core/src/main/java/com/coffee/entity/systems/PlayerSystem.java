@@ -6,6 +6,7 @@ import com.badlogic.ashley.systems.IteratingSystem;
 import com.badlogic.gdx.audio.Sound;
 import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.utils.viewport.Viewport;
+import com.coffee.entity.CommandBuffer;
 import com.coffee.entity.EntityFactory;
 import com.coffee.entity.components.*;
 import com.coffee.util.Assets;
@@ -72,87 +73,89 @@ public class PlayerSystem extends IteratingSystem {
             if (player.shoot && player.shootTimer == 0) {
                 Sound shoot = Assets.MANAGER.get(Assets.Audio.LASER_SHOOT);
                 shoot.play(OptionsManager.sfxVolume);
+
+                final CommandBuffer COMMANDS = CommandBuffer.of(getEngine());
                 switch (player.upBulletDamage) {
                     case 1:
-                        getEngine().addEntity(EntityFactory.createPlayerBullet(
+                        COMMANDS.spawn(EntityFactory.createPlayerBullet(
                                 transform.POSITION.x + transform.ORIGIN.x + 8,
                                 transform.POSITION.y + transform.SIZE.height + 10
                         ));
 
-                        getEngine().addEntity(EntityFactory.createPlayerBullet(
+                        COMMANDS.spawn(EntityFactory.createPlayerBullet(
                                 transform.POSITION.x + transform.ORIGIN.x - 8,
                                 transform.POSITION.y + transform.SIZE.height + 10
                         ));
                         break;
 
                     case 2:
-                        getEngine().addEntity(EntityFactory.createPlayerBullet(
+                        COMMANDS.spawn(EntityFactory.createPlayerBullet(
                                 transform.POSITION.x + transform.ORIGIN.x,
                                 transform.POSITION.y + transform.SIZE.height + 10
                         ));
 
-                        getEngine().addEntity(EntityFactory.createPlayerBullet(
+                        COMMANDS.spawn(EntityFactory.createPlayerBullet(
                                 transform.POSITION.x + transform.ORIGIN.x + 16,
                                 transform.POSITION.y + transform.SIZE.height + 10
                         ));
 
-                        getEngine().addEntity(EntityFactory.createPlayerBullet(
+                        COMMANDS.spawn(EntityFactory.createPlayerBullet(
                                 transform.POSITION.x + transform.ORIGIN.x - 16,
                                 transform.POSITION.y + transform.SIZE.height + 10
                         ));
                         break;
 
                     case 3:
-                        getEngine().addEntity(EntityFactory.createPlayerBullet(
+                        COMMANDS.spawn(EntityFactory.createPlayerBullet(
                                 transform.POSITION.x + transform.ORIGIN.x + 8,
                                 transform.POSITION.y + transform.SIZE.height + 10
                         ));
 
-                        getEngine().addEntity(EntityFactory.createPlayerBullet(
+                        COMMANDS.spawn(EntityFactory.createPlayerBullet(
                                 transform.POSITION.x + transform.ORIGIN.x + 24,
                                 transform.POSITION.y + transform.SIZE.height - 10
                         ));
 
-                        getEngine().addEntity(EntityFactory.createPlayerBullet(
+                        COMMANDS.spawn(EntityFactory.createPlayerBullet(
                                 transform.POSITION.x + transform.ORIGIN.x - 8,
                                 transform.POSITION.y + transform.SIZE.height + 10
                         ));
 
-                        getEngine().addEntity(EntityFactory.createPlayerBullet(
+                        COMMANDS.spawn(EntityFactory.createPlayerBullet(
                                 transform.POSITION.x + transform.ORIGIN.x - 24,
                                 transform.POSITION.y + transform.SIZE.height - 10
                         ));
                         break;
 
                     case 4:
-                        getEngine().addEntity(EntityFactory.createPlayerBullet(
+                        COMMANDS.spawn(EntityFactory.createPlayerBullet(
                                 transform.POSITION.x + transform.ORIGIN.x,
                                 transform.POSITION.y + transform.SIZE.height + 10
                         ));
 
-                        getEngine().addEntity(EntityFactory.createPlayerBullet(
+                        COMMANDS.spawn(EntityFactory.createPlayerBullet(
                                 transform.POSITION.x + transform.ORIGIN.x + 16,
                                 transform.POSITION.y + transform.SIZE.height + 10
                         ));
 
-                        getEngine().addEntity(EntityFactory.createPlayerBullet(
+                        COMMANDS.spawn(EntityFactory.createPlayerBullet(
                                 transform.POSITION.x + transform.ORIGIN.x + 32,
                                 transform.POSITION.y + transform.SIZE.height - 10
                         ));
 
-                        getEngine().addEntity(EntityFactory.createPlayerBullet(
+                        COMMANDS.spawn(EntityFactory.createPlayerBullet(
                                 transform.POSITION.x + transform.ORIGIN.x - 16,
                                 transform.POSITION.y + transform.SIZE.height + 10
                         ));
 
-                        getEngine().addEntity(EntityFactory.createPlayerBullet(
+                        COMMANDS.spawn(EntityFactory.createPlayerBullet(
                                 transform.POSITION.x + transform.ORIGIN.x - 32,
                                 transform.POSITION.y + transform.SIZE.height - 10
                         ));
                         break;
 
                     default:
-                        getEngine().addEntity(EntityFactory.createPlayerBullet(
+                        COMMANDS.spawn(EntityFactory.createPlayerBullet(
                                 transform.POSITION.x + transform.ORIGIN.x,
                                 transform.POSITION.y + transform.SIZE.height + 10
                         ));
@@ -184,19 +187,20 @@ public class PlayerSystem extends IteratingSystem {
                     player.shootTimer = player.shotsPerSecond;
                     transform.POSITION.set(GAME_SIZE.width / 2 - transform.ORIGIN.x, 128 - transform.ORIGIN.y);
 
-                    health.respawnTimer = health.respawnDuration;
+                    getEngine().getSystem(HealthSystem.class).startRespawn(entity);
                     player.revive = true;
-                } else if (health.respawnTimer == 0) { // Wait to revive, then respawn.
+                } else if (!health.RESPAWN.isScheduled()) { // Wait to revive, then respawn.
                     player.lives--;
-                    health.invincibilityTimer = health.invincibilityDuration;
+                    getEngine().getSystem(HealthSystem.class).startInvincibility(entity, health.invincibilityDuration);
                     health.health = health.maxHealth;
                     sprite.SPRITES.first().setAlpha(1);
                     player.revive = false;
                 }
             } else { // If we dead, just remove enough so that we can keep the gui but we are still dead.
-                entity.remove(ColliderComponent.class);
-                entity.remove(SpriteComponent.class);
-                entity.remove(MovementComponent.class);
+                CommandBuffer.of(getEngine())
+                        .remove(entity, ColliderComponent.class)
+                        .remove(entity, SpriteComponent.class)
+                        .remove(entity, MovementComponent.class);
             }
         }
     }
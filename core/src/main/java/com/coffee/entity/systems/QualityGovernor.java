@@ -0,0 +1,161 @@
+package com.coffee.entity.systems;
+
+import com.badlogic.ashley.core.Engine;
+import com.badlogic.ashley.core.EntitySystem;
+import com.badlogic.gdx.utils.TimeUtils;
+
+/**
+ * {@link EntitySystem} that keeps an eye on how long the engine takes to update, and cuts back on cosmetic work when
+ * it takes too long. Quality goes down one tier at a time while the updates in the window run over budget, and comes
+ * back up one tier at a time only after they have stayed well under it for a while, so it doesn't flicker between
+ * tiers. Only the engine's own work is measured, not how long whole frames take, so a display that waits for vsync or
+ * just runs slower than the budget doesn't keep quality down.
+ * <p>
+ * Only cosmetic things look at the tier: how many stars and shooting stars the background spawns, the colors some
+ * bullets fade, pulse and drift through, and the debug overlay. Nothing that can hurt the player or be hurt is ever
+ * left out, and neither are colors that warn the player, like a ball turning red before it bursts.
+ * <p>
+ * This should be added to the engine before every other system, and {@link #endFrame()} called once the engine is
+ * done updating, so the time in between is the work done for the frame. Frames that aren't what the game normally
+ * costs, like while warming up or paused, should end with {@link #skipFrame()} instead.
+ */
+public class QualityGovernor extends EntitySystem {
+    /** Everything is on. */
+    public static final int FULL = 0;
+    /** Fewer stars and shooting stars, and no debug overlay. */
+    public static final int REDUCED = 1;
+    /** Even fewer stars, no shooting stars, and bullets stop fading, pulsing and drifting through colors. */
+    public static final int LOW = 2;
+    /** No new stars at all. */
+    public static final int MINIMAL = 3;
+
+    /** How long the engine can take to update each frame, in seconds. */
+    public static final float BUDGET = 1 / 60f;
+
+    private static final int WINDOW = 60;
+    // Fractions of the budget the work of a frame can take before quality goes down, and has to stay under to come back
+    private static final float SHED_AT = 0.85f, RECOVER_AT = 0.5f;
+    // How long to stay under budget before coming back up a tier, and to wait after any change before another one
+    private static final float RECOVER_DELAY = 3, SETTLE_DELAY = 1;
+
+    private static final float[] STAR_DENSITY = {1, 0.5f, 0.25f, 0};
+    private static final float[] SHOOTING_STAR_CHANCE = {1, 0.5f, 0, 0};
+
+    private final float[] WORK = new float[WINDOW];
+    private float workSum;
+    private int samples, next;
+
+    private long frameStart;
+    private float delta, calm, settle;
+    private int tier = FULL;
+    private boolean shedDebug;
+
+    /**
+     * @param engine the {@link Engine} to look in
+     * @return the quality tier of the engine's {@code QualityGovernor}, or {@link #FULL} if it doesn't have one
+     */
+    public static int tierOf(Engine engine) {
+        final QualityGovernor GOVERNOR = engine.getSystem(QualityGovernor.class);
+
+        return GOVERNOR == null ? FULL : GOVERNOR.tier;
+    }
+
+    /**
+     * @return the quality tier, from {@link #FULL} to {@link #MINIMAL}
+     */
+    public int getTier() {
+        return tier;
+    }
+
+    /**
+     * @return the fraction of stars the background should still spawn
+     */
+    public float getStarDensity() {
+        return STAR_DENSITY[tier];
+    }
+
+    /**
+     * @return how likely a shooting star is compared to at full quality
+     */
+    public float getShootingStarChance() {
+        return SHOOTING_STAR_CHANCE[tier];
+    }
+
+    /**
+     * @return the average time the engine took per frame over the window, in seconds
+     */
+    public float getAverageWork() {
+        return samples == 0 ? 0 : workSum / samples;
+    }
+
+    @Override
+    public void update(float deltaTime) {
+        frameStart = TimeUtils.nanoTime();
+        delta = deltaTime;
+
+        // Keep the debug overlay off for as long as quality is down, even if it gets turned back on
+        final DebugDrawSystem DEBUG = getEngine().getSystem(DebugDrawSystem.class);
+        if (tier > FULL && DEBUG != null && DEBUG.checkProcessing()) {
+            DEBUG.setProcessing(false);
+            shedDebug = true;
+        }
+    }
+
+    /**
+     * Ends the frame started by the last update, and moves to another tier if it is time to.
+     */
+    public void endFrame() {
+        if (frameStart == 0)
+            return;
+
+        final float WORK_TIME = TimeUtils.timeSinceNanos(frameStart) / 1e9f;
+        frameStart = 0;
+
+        if (samples == WINDOW)
+            workSum -= WORK[next];
+        else
+            samples++;
+        WORK[next] = WORK_TIME;
+        workSum += WORK_TIME;
+        next = (next + 1) % WINDOW;
+
+        settle -= delta;
+        if (samples < WINDOW || settle > 0)
+            return;
+
+        final float WORK_AVG = workSum / samples;
+
+        if (tier < MINIMAL && WORK_AVG > BUDGET * SHED_AT) {
+            setTier(tier + 1);
+        } else if (tier > FULL && WORK_AVG < BUDGET * RECOVER_AT) {
+            calm += delta;
+
+            if (calm >= RECOVER_DELAY)
+                setTier(tier - 1);
+        } else {
+            calm = 0;
+        }
+    }
+
+    /**
+     * Ends the frame started by the last update without counting it, for frames that would throw the average off.
+     */
+    public void skipFrame() {
+        frameStart = 0;
+    }
+
+    private void setTier(int tier) {
+        this.tier = tier;
+        calm = 0;
+        settle = SETTLE_DELAY;
+
+        // Give back the debug overlay if it was on before quality went down
+        if (tier == FULL && shedDebug) {
+            final DebugDrawSystem DEBUG = getEngine().getSystem(DebugDrawSystem.class);
+
+            if (DEBUG != null)
+                DEBUG.setProcessing(true);
+            shedDebug = false;
+        }
+    }
+}
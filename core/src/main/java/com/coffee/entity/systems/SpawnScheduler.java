@@ -0,0 +1,160 @@
+package com.coffee.entity.systems;
+
+import com.badlogic.ashley.core.Engine;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.EntitySystem;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.FloatArray;
+import com.coffee.entity.CommandBuffer;
+import com.coffee.entity.components.BulletComponent;
+import com.coffee.entity.components.LifetimeComponent;
+import com.coffee.entity.components.MovementComponent;
+import com.coffee.entity.components.TransformComponent;
+import com.coffee.util.Mapper;
+
+/**
+ * {@link EntitySystem} that spreads big bursts of spawns out over a few frames. Only so many scheduled entities are
+ * added to the engine each frame; the rest wait in line and are let out over the next frames, oldest first.
+ * <p>
+ * An entity that had to wait is caught up on that time before it is added, a frame at a time: its
+ * {@link com.coffee.util.BulletHandler} is {@link com.coffee.util.BulletHandler#advance advanced}, it is moved along its
+ * {@link MovementComponent}, and its {@link LifetimeComponent} is shortened, so a pattern that gets spread out still
+ * lines up the way it would have. How long a bullet can stay off-screen only starts counting once it is added.
+ * <p>
+ * This should be added to the engine before the systems that schedule spawns, and paused along with them.
+ */
+public class SpawnScheduler extends EntitySystem {
+    /** The default number of scheduled entities added each frame. */
+    public static final int BUDGET = 64;
+    private static final float STEP = 1 / 60f;
+
+    private final Array<Entity> QUEUE = new Array<>();
+    private final FloatArray QUEUED_AT = new FloatArray();
+    private int head;
+
+    private Engine engine;
+    private CommandBuffer commands;
+    private int budget = BUDGET, spent;
+    private float clock;
+
+    @Override
+    public void addedToEngine(Engine engine) {
+        this.engine = engine;
+        commands = CommandBuffer.of(engine);
+    }
+
+    @Override
+    public void removedFromEngine(Engine engine) {
+        clear();
+        this.engine = null;
+        commands = null;
+    }
+
+    /**
+     * Adds the entity to the engine this frame if there is room in the budget, or lines it up for a later frame if
+     * there isn't.
+     *
+     * @param entity the {@link Entity} to spawn, not yet added to the engine
+     */
+    public void schedule(Entity entity) {
+        if (head == QUEUE.size && spent < budget) {
+            commands.spawn(entity);
+            spent++;
+        } else {
+            QUEUE.add(entity);
+            QUEUED_AT.add(clock);
+        }
+    }
+
+    /**
+     * @param budget how many scheduled entities can be added each frame
+     */
+    public void setBudget(int budget) {
+        this.budget = Math.max(budget, 1);
+    }
+
+    /**
+     * @return how many scheduled entities can be added each frame
+     */
+    public int getBudget() {
+        return budget;
+    }
+
+    /**
+     * @return how many entities are waiting for a later frame
+     */
+    public int size() {
+        return QUEUE.size - head;
+    }
+
+    /**
+     * Throws away every entity that is waiting, giving them and their components back to the engine's pools.
+     */
+    public void clear() {
+        // None of them were ever added, so removing them only hands them back
+        if (engine != null) {
+            for (int i = head; i < QUEUE.size; i++)
+                engine.removeEntity(QUEUE.get(i));
+        }
+
+        drop();
+    }
+
+    @Override
+    public void update(float deltaTime) {
+        clock += deltaTime;
+        spent = 0;
+
+        while (head < QUEUE.size && spent < budget) {
+            final Entity E = QUEUE.get(head);
+
+            catchUp(E, clock - QUEUED_AT.get(head));
+            commands.spawn(E);
+
+            QUEUE.set(head++, null);
+            spent++;
+        }
+
+        if (head == QUEUE.size)
+            drop();
+    }
+
+    private void drop() {
+        QUEUE.clear();
+        QUEUED_AT.clear();
+        head = 0;
+    }
+
+    /**
+     * Does to the entity what the {@link BulletSystem}, the {@link MovementSystem} and the {@link LifetimeSystem} would
+     * have while it was waiting.
+     */
+    private void catchUp(Entity entity, float waited) {
+        if (waited <= 0)
+            return;
+
+        final TransformComponent TRANSFORM = Mapper.TRANSFORM.get(entity);
+        final MovementComponent MOVEMENT = Mapper.MOVEMENT.get(entity);
+        final BulletComponent BULLET = Mapper.BULLET.get(entity);
+        final LifetimeComponent LIFETIME = Mapper.LIFETIME.get(entity);
+
+        final int STEPS = Math.max(Math.round(waited / STEP), 1);
+        final float DELTA = waited / STEPS;
+
+        for (int i = 0; i < STEPS; i++) {
+            if (BULLET != null && BULLET.handler != null)
+                BULLET.handler.advance(entity, engine, DELTA);
+
+            if (TRANSFORM != null && MOVEMENT != null) {
+                float len = MOVEMENT.MOVEMENT_NORMAL.len();
+
+                if (len > 0)
+                    TRANSFORM.POSITION.mulAdd(MOVEMENT.MOVEMENT_NORMAL, MOVEMENT.moveSpeed * 60 * DELTA / len);
+                TRANSFORM.rotation = ((TRANSFORM.rotation + MOVEMENT.rotSpeed * 60 * DELTA) % 360 + 360) % 360;
+            }
+        }
+
+        if (LIFETIME != null)
+            LIFETIME.timer = Math.max(LIFETIME.timer - waited, 0);
+    }
+}
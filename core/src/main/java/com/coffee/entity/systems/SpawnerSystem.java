@@ -3,6 +3,7 @@ package com.coffee.entity.systems;
 import com.badlogic.ashley.core.*;
 import com.badlogic.ashley.systems.IteratingSystem;
 import com.badlogic.gdx.math.MathUtils;
+import com.coffee.entity.CommandBuffer;
 import com.coffee.entity.components.SpawnerComponent;
 
 import static com.coffee.util.Mapper.SPAWNER;
@@ -10,15 +11,21 @@ import static com.coffee.util.Mapper.SPAWNER;
 /**
  * {@link EntitySystem} that updates the timer of all spawner entities in
  * the {@link Engine} and calls their proper spawning method if the timer is 0.
+ * <p>
+ * A spawner goes off once for every time its timer would have run out during the frame, up to its
+ * {@link SpawnerComponent#maxPerTick}, so how often it spawns doesn't depend on the frame rate. Everything it spawns
+ * goes through the engine's {@link CommandBuffer}.
  *
  * @author Jared Tulayan
  */
 public class SpawnerSystem extends IteratingSystem {
     private final PooledEngine ENGINE;
+    private final CommandBuffer COMMANDS;
 
     public SpawnerSystem(PooledEngine engine) {
         super(Family.all(SpawnerComponent.class).get());
         ENGINE = engine;
+        COMMANDS = CommandBuffer.of(engine);
     }
 
     @Override
@@ -27,12 +34,17 @@ public class SpawnerSystem extends IteratingSystem {
 
         spawner.timer -= deltaTime;
 
-        if (spawner.timer <= 0) {
-            Entity[] spawns = spawner.HANDLER.getSpawnEntity().toArray(Entity.class);
-            for (Entity e : spawns)
-                ENGINE.addEntity(e);
-
-            spawner.timer = MathUtils.random((float) spawner.spawnRateMin, (float) spawner.spawnRateMax);
+        int count = 0;
+        while (spawner.timer <= 0 && count < spawner.maxPerTick) {
+            spawner.timer += MathUtils.random(spawner.spawnRateMin, spawner.spawnRateMax);
+            count++;
         }
+
+        // Don't try to catch up on a frame that was too long
+        if (spawner.timer <= 0)
+            spawner.timer = MathUtils.random(spawner.spawnRateMin, spawner.spawnRateMax);
+
+        if (count > 0)
+            spawner.handler.spawn(count, COMMANDS);
     }
 }
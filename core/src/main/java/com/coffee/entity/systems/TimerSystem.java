@@ -0,0 +1,47 @@
+package com.coffee.entity.systems;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.EntitySystem;
+import com.coffee.entity.CommandBuffer;
+import com.coffee.util.TimerHandler;
+import com.coffee.util.TimingWheel;
+
+/**
+ * {@link EntitySystem} that keeps the {@link TimingWheel} every timed component in the engine counts down in.
+ * Other systems start their components' timers here instead of counting them down themselves every frame,
+ * so the cost of timers each frame only depends on how many of them run out.
+ * <p>
+ * This should be added to the engine before the systems that use it, and paused along with them.
+ */
+public class TimerSystem extends EntitySystem {
+    /**
+     * Removes the entity from the engine once its {@link CommandBuffer} is flushed.
+     */
+    public static final TimerHandler REMOVE = (entity, engine) -> CommandBuffer.of(engine).despawn(entity);
+
+    private final TimingWheel WHEEL = new TimingWheel();
+
+    /**
+     * Starts the timer over, running out after the specified amount of time.
+     *
+     * @param timer   the {@link TimingWheel.Timer} to start
+     * @param seconds how long until it runs out
+     * @param entity  the {@link Entity} the timer belongs to
+     * @param handler what to do when it runs out
+     */
+    public void schedule(TimingWheel.Timer timer, float seconds, Entity entity, TimerHandler handler) {
+        WHEEL.schedule(timer, seconds, entity, handler);
+    }
+
+    /**
+     * @return how many timers are counting down
+     */
+    public int getTimerCount() {
+        return WHEEL.size();
+    }
+
+    @Override
+    public void update(float deltaTime) {
+        WHEEL.advance(deltaTime, getEngine());
+    }
+}
@@ -13,6 +13,7 @@ import com.badlogic.gdx.utils.viewport.Viewport;
 import com.coffee.entity.EntityFactory;
 import com.coffee.main.screen.*;
 import com.coffee.util.Assets;
+import com.coffee.util.BulletPatterns;
 import com.coffee.util.HighScore;
 import com.coffee.util.OptionsManager;
 
@@ -51,6 +52,7 @@ public class Application extends Game {
 
 		OptionsManager.init();
 		HighScore.init();
+		BulletPatterns.init();
 
 		// An input listener to exit the game and toggle fullscreen
 		inputMultiplexer.addProcessor(new InputAdapter() {
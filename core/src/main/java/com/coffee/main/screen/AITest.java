@@ -8,6 +8,7 @@ import com.badlogic.gdx.ScreenAdapter;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.utils.viewport.Viewport;
+import com.coffee.entity.BoundedPooledEngine;
 import com.coffee.entity.EntityFactory;
 import com.coffee.entity.systems.*;
 import com.coffee.main.Application;
@@ -33,12 +34,15 @@ public class AITest extends ScreenAdapter {
 
         BATCH = app.getBatch();
         VIEWPORT = app.getViewport();
-        ENGINE = new PooledEngine();
+        ENGINE = new BoundedPooledEngine();
+        EntityFactory.setEngine(ENGINE);
         SHAPE_RENDERER = app.getShapeRenderer();
 
+        ENGINE.addSystem(new TimerSystem());
         ENGINE.addSystem(new DrawSystem(BATCH, VIEWPORT));
         ENGINE.addSystem(new GUISystem());
         ENGINE.addSystem(new BulletSystem(VIEWPORT));
+        ENGINE.addSystem(new BulletWorld(VIEWPORT));
         ENGINE.addSystem(new MovementSystem(VIEWPORT));
         ENGINE.addSystem(new CollisionSystem(VIEWPORT));
         // ENGINE.addSystem(new DebugDrawSystem(SHAPE_RENDERER, VIEWPORT));
@@ -90,13 +94,13 @@ public class AITest extends ScreenAdapter {
         Application app = (Application) Gdx.app.getApplicationListener();
 
         EntityFactory.setEngine(ENGINE);
-        app.getInputMultiplexer().addProcessor(Mapper.INPUT.get(player).PROCESSOR);
+        app.getInputMultiplexer().addProcessor(Mapper.INPUT.get(player).processor);
     }
 
     @Override
     public void hide() {
         Application app = (Application) Gdx.app.getApplicationListener();
 
-        app.getInputMultiplexer().removeProcessor(Mapper.INPUT.get(player).PROCESSOR);
+        app.getInputMultiplexer().removeProcessor(Mapper.INPUT.get(player).processor);
     }
 }
@@ -10,6 +10,7 @@ import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureAtlas;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.utils.viewport.Viewport;
+import com.coffee.entity.BoundedPooledEngine;
 import com.coffee.entity.components.ColliderComponent;
 import com.coffee.entity.components.MovementComponent;
 import com.coffee.entity.components.SpriteComponent;
@@ -41,7 +42,7 @@ public class CollisionTest extends ScreenAdapter {
 
         VIEWPORT = app.getViewport();
         BATCH = app.getBatch();
-        ENGINE = new PooledEngine();
+        ENGINE = new BoundedPooledEngine();
         SHAPE_RENDERER = app.getShapeRenderer();
 
         ENGINE.addSystem(new DrawSystem(BATCH, VIEWPORT));
@@ -63,7 +64,7 @@ public class CollisionTest extends ScreenAdapter {
                     (float) (Math.random() * VIEWPORT.getWorldWidth() - TRANSFORM.SIZE.width + 1),
                     (float) (Math.random() * VIEWPORT.getWorldHeight() - TRANSFORM.SIZE.height + 1)
             );
-            MOVEMENT.moveSpeed = 2.5;
+            MOVEMENT.moveSpeed = 2.5f;
             MOVEMENT.MOVEMENT_NORMAL.set(1, 0).setToRandomDirection();
 
             COLLIDER.handler = new CollisionHandler() {
@@ -122,7 +123,7 @@ public class CollisionTest extends ScreenAdapter {
                 TRANSFORM.POSITION.y < -32 || TRANSFORM.POSITION.y > VIEWPORT.getWorldHeight()) {
 
                 TRANSFORM.POSITION.set((float) (Math.random() * 720 - 31), (float) (Math.random() * 1280 - 31));
-                MOVEMENT.moveSpeed = 2.5;
+                MOVEMENT.moveSpeed = 2.5f;
                 MOVEMENT.MOVEMENT_NORMAL.set(1, 0).setToRandomDirection();
             }
         }
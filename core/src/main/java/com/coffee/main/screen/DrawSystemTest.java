@@ -9,6 +9,7 @@ import com.badlogic.gdx.graphics.g2d.Sprite;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureAtlas;
 import com.badlogic.gdx.utils.viewport.Viewport;
+import com.coffee.entity.BoundedPooledEngine;
 import com.coffee.entity.components.SpriteComponent;
 import com.coffee.entity.components.TransformComponent;
 import com.coffee.entity.systems.DrawSystem;
@@ -30,7 +31,7 @@ public class DrawSystemTest extends ScreenAdapter {
 
         BATCH = app.getBatch();
         VIEWPORT = app.getViewport();
-        ENGINE = new PooledEngine();
+        ENGINE = new BoundedPooledEngine();
 
         final Entity
                 E1 = new Entity(),
@@ -13,6 +13,7 @@ import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.scenes.scene2d.ui.*;
 import com.badlogic.gdx.scenes.scene2d.utils.ChangeListener;
 import com.badlogic.gdx.utils.Align;
+import com.coffee.entity.BoundedPooledEngine;
 import com.coffee.entity.EntityFactory;
 import com.coffee.entity.components.GUIComponent;
 import com.coffee.entity.components.HealthComponent;
@@ -35,8 +36,10 @@ public class GameOverScreen extends ScreenAdapter {
     public GameOverScreen(Entity e) {
         APP = (Application) Gdx.app.getApplicationListener();
 
-        ENGINE = new PooledEngine();
+        ENGINE = new BoundedPooledEngine();
+        EntityFactory.setEngine(ENGINE);
 
+        ENGINE.addSystem(new TimerSystem());
         ENGINE.addSystem(new DrawSystem(APP.getBatch(), APP.getViewport()));
         ENGINE.addSystem(new GUISystem());
         ENGINE.addSystem(new MovementSystem());
@@ -1,7 +1,6 @@
 package com.coffee.main.screen;
 
 import com.badlogic.ashley.core.Entity;
-import com.badlogic.ashley.core.PooledEngine;
 import com.badlogic.gdx.*;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
@@ -13,6 +12,8 @@ import com.badlogic.gdx.scenes.scene2d.ui.*;
 import com.badlogic.gdx.scenes.scene2d.utils.ChangeListener;
 import com.badlogic.gdx.utils.Align;
 import com.badlogic.gdx.utils.viewport.Viewport;
+import com.coffee.entity.BoundedPooledEngine;
+import com.coffee.entity.EngineWarmer;
 import com.coffee.entity.EntityFactory;
 import com.coffee.entity.components.GUIComponent;
 import com.coffee.entity.components.PlayerComponent;
@@ -22,6 +23,8 @@ import com.coffee.util.Assets;
 import com.coffee.util.HighScore;
 import com.coffee.util.Mapper;
 
+import java.util.concurrent.ForkJoinPool;
+
 /**
  * Screen where all the action and game takes place.
  */
@@ -29,16 +32,18 @@ public class GameScreen extends ScreenAdapter {
     private final SpriteBatch BATCH;
     private final Viewport VIEWPORT;
     private final ShapeRenderer SHAPE_RENDERER;
-    private final PooledEngine ENGINE;
+    private final BoundedPooledEngine ENGINE;
     private final Application APP;
 
     private final InputProcessor DEBUG;
+    private final EngineWarmer WARMER;
 
     private final Entity PLAYER;
     private final Entity BOSS_SHIP;
     private final Entity PAUSE_UI;
 
     private final float READY_LENGTH = 3; // decreased from 5 cuz impatient
+    private final float WARM_UP_BUDGET = 1 / 120f; // how much of each frame of the countdown goes to warming up
     private float gameTimer;
     private int lowestHighScore;
     private boolean ready = false, pause = false, gameOver = false;
@@ -48,9 +53,14 @@ public class GameScreen extends ScreenAdapter {
 
         BATCH = APP.getBatch();
         VIEWPORT = APP.getViewport();
-        ENGINE = new PooledEngine();
+        // Big enough pools for the warmer to fill up to what the attacks need
+        ENGINE = new BoundedPooledEngine(100, 2000, 100, 2000);
+        EntityFactory.setEngine(ENGINE);
         SHAPE_RENDERER = APP.getShapeRenderer();
 
+        ENGINE.addSystem(new QualityGovernor());
+        ENGINE.addSystem(new TimerSystem());
+        ENGINE.addSystem(new SpawnScheduler());
         ENGINE.addSystem(new SpawnerSystem(ENGINE));
         ENGINE.addSystem(new PlayerSystem(VIEWPORT));
         ENGINE.addSystem(new AISystem(VIEWPORT));
@@ -61,6 +71,7 @@ public class GameScreen extends ScreenAdapter {
         ENGINE.addSystem(new HealthSystem());
         ENGINE.addSystem(new LifetimeSystem());
         ENGINE.addSystem(new BulletSystem(VIEWPORT));
+        ENGINE.addSystem(new BulletWorld(VIEWPORT));
         ENGINE.addSystem(new CollisionSystem(VIEWPORT));
 
         PLAYER = EntityFactory.createPlayer(VIEWPORT.getWorldWidth() / 2f, 128);
@@ -133,6 +144,7 @@ public class GameScreen extends ScreenAdapter {
         ENGINE.getSystem(DebugDrawSystem.class).setProcessing(false);
 
         gameTimer = READY_LENGTH;
+        WARMER = new EngineWarmer(ENGINE, VIEWPORT);
 
         Gdx.input.setCursorCatched(true);
         DEBUG = new MLGHackerzDebugControlzz();
@@ -142,8 +154,10 @@ public class GameScreen extends ScreenAdapter {
     public void render(float delta) {
         if (!ready) {
             gameTimer -= delta;
+            WARMER.update(WARM_UP_BUDGET);
 
             if (gameTimer <= 0) {
+                WARMER.finish();
                 ENGINE.getSystem(PlayerSystem.class).setProcessing(true);
                 ENGINE.getSystem(AISystem.class).setProcessing(true);
 
@@ -159,6 +173,13 @@ public class GameScreen extends ScreenAdapter {
 
         ENGINE.update(delta);
 
+        // The warm-up and the pause menu aren't what the game normally costs, so they shouldn't move the quality
+        final QualityGovernor GOVERNOR = ENGINE.getSystem(QualityGovernor.class);
+        if (ready && !pause)
+            GOVERNOR.endFrame();
+        else
+            GOVERNOR.skipFrame();
+
         boolean
             playerDead = Mapper.HEALTH.get(PLAYER).getHealthPercent() == 0 && Mapper.PLAYER.get(PLAYER).lives == 0,
             bossDead = !ENGINE.getEntities().contains(BOSS_SHIP, true);
@@ -171,9 +192,9 @@ public class GameScreen extends ScreenAdapter {
             //APP.getInputMultiplexer().removeProcessor(DEBUG);
 
             if (playerDead)
-                Mapper.HEALTH.get(BOSS_SHIP).invincibilityTimer = 999;
+                ENGINE.getSystem(HealthSystem.class).startInvincibility(BOSS_SHIP, 999);
             else if (bossDead)
-                Mapper.HEALTH.get(PLAYER).invincibilityTimer = 999;
+                ENGINE.getSystem(HealthSystem.class).startInvincibility(PLAYER, 999);
 
             if (gameTimer <= 0) {
                 this.dispose();
@@ -189,7 +210,7 @@ public class GameScreen extends ScreenAdapter {
 
     public void show() {
         EntityFactory.setEngine(ENGINE);
-        APP.getInputMultiplexer().addProcessor(Mapper.INPUT.get(PLAYER).PROCESSOR);
+        APP.getInputMultiplexer().addProcessor(Mapper.INPUT.get(PLAYER).processor);
 
         if (pause) {
             float curVol = APP.getTheme().getVolume();
@@ -201,7 +222,7 @@ public class GameScreen extends ScreenAdapter {
     @Override
     public void hide() {
         Gdx.input.setCursorCatched(false);
-        APP.getInputMultiplexer().removeProcessor(Mapper.INPUT.get(PLAYER).PROCESSOR);
+        APP.getInputMultiplexer().removeProcessor(Mapper.INPUT.get(PLAYER).processor);
 
         if (pause) {
             float curVol = APP.getTheme().getVolume();
@@ -221,12 +242,15 @@ public class GameScreen extends ScreenAdapter {
 
         ENGINE.getSystem(AISystem.class).setProcessing(!pause);
         ENGINE.getSystem(BulletSystem.class).setProcessing(!pause);
+        ENGINE.getSystem(BulletWorld.class).setProcessing(!pause);
         ENGINE.getSystem(CollisionSystem.class).setProcessing(!pause);
         ENGINE.getSystem(HealthSystem.class).setProcessing(!pause);
         ENGINE.getSystem(LifetimeSystem.class).setProcessing(!pause);
         ENGINE.getSystem(MovementSystem.class).setProcessing(!pause);
         ENGINE.getSystem(PlayerSystem.class).setProcessing(!pause);
         ENGINE.getSystem(SpawnerSystem.class).setProcessing(!pause);
+        ENGINE.getSystem(SpawnScheduler.class).setProcessing(!pause);
+        ENGINE.getSystem(TimerSystem.class).setProcessing(!pause);
 
         final InputProcessor INPUT = Mapper.GUI.get(PAUSE_UI).canvas;
         final float VOL = APP.getTheme().getVolume();
@@ -247,7 +271,7 @@ public class GameScreen extends ScreenAdapter {
     private void stopPlayer() {
         PlayerComponent player = Mapper.PLAYER.get(PLAYER);
 
-        APP.getInputMultiplexer().removeProcessor(Mapper.INPUT.get(PLAYER).PROCESSOR);
+        APP.getInputMultiplexer().removeProcessor(Mapper.INPUT.get(PLAYER).processor);
         player.shoot = false;
         player.up = player.down = player.left = player.right = 0;
     }
@@ -306,6 +330,14 @@ public class GameScreen extends ScreenAdapter {
                     ENGINE.getSystem(DebugDrawSystem.class).setDrawQuadTree(true);
                     System.out.println("Debug View + QuadTree Toggled");
                     break;
+                case Input.Keys.F10: //Print broadphase statistics
+                    System.out.println("Broadphase pairs: " + ENGINE.getSystem(CollisionSystem.class).getPairCount());
+                    break;
+                case Input.Keys.F11: //Toggle multi-threaded narrowphase
+                    CollisionSystem collisionSystem = ENGINE.getSystem(CollisionSystem.class);
+                    collisionSystem.setPool(collisionSystem.getPool() == null ? ForkJoinPool.commonPool() : null);
+                    System.out.println("Parallel narrowphase: " + (collisionSystem.getPool() != null));
+                    break;
                 case Input.Keys.F9: //Kill player in their sleep
                     PLAY.lives = 0;
                     Mapper.HEALTH.get(PLAYER).health = 0;
@@ -11,6 +11,7 @@ import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.scenes.scene2d.ui.*;
 import com.badlogic.gdx.scenes.scene2d.utils.ChangeListener;
 import com.badlogic.gdx.utils.Scaling;
+import com.coffee.entity.BoundedPooledEngine;
 import com.coffee.entity.EntityFactory;
 import com.coffee.entity.components.GUIComponent;
 import com.coffee.entity.systems.*;
@@ -28,12 +29,14 @@ public class MainMenu extends ScreenAdapter {
     public MainMenu() {
         final Application APP = (Application) Gdx.app.getApplicationListener();
 
-        ENGINE = new PooledEngine();
+        ENGINE = new BoundedPooledEngine();
+        EntityFactory.setEngine(ENGINE);
 
         // region MainMenu entity
         final Skin SKIN = Assets.MANAGER.get(Assets.UI.SKIN);
         final TextureAtlas UI_ATLAS = Assets.MANAGER.get(Assets.UI.ATLAS);
 
+        ENGINE.addSystem(new TimerSystem());
         ENGINE.addSystem(new DrawSystem(APP.getBatch(), APP.getViewport()));
         ENGINE.addSystem(new GUISystem());
         ENGINE.addSystem(new MovementSystem());
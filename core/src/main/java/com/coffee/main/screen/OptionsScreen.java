@@ -12,6 +12,7 @@ import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.scenes.scene2d.ui.*;
 import com.badlogic.gdx.scenes.scene2d.utils.ChangeListener;
 import com.badlogic.gdx.utils.Align;
+import com.coffee.entity.BoundedPooledEngine;
 import com.coffee.entity.EntityFactory;
 import com.coffee.entity.components.GUIComponent;
 import com.coffee.entity.systems.*;
@@ -38,7 +39,7 @@ public class OptionsScreen extends ScreenAdapter {
     public OptionsScreen(Screen s) {
         APP = (Application) Gdx.app.getApplicationListener();
 
-        ENGINE = new PooledEngine();
+        ENGINE = new BoundedPooledEngine();
 
         LAST_SCREEN = s;
 
@@ -46,6 +47,7 @@ public class OptionsScreen extends ScreenAdapter {
         final Skin SKIN = Assets.MANAGER.get(Assets.UI.SKIN);
         final TextureAtlas UI_ATLAS = Assets.MANAGER.get(Assets.UI.ATLAS);
 
+        ENGINE.addSystem(new TimerSystem());
         ENGINE.addSystem(new DrawSystem(APP.getBatch(), APP.getViewport()));
         ENGINE.addSystem(new GUISystem());
         ENGINE.addSystem(new MovementSystem());
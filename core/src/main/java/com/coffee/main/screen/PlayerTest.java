@@ -7,6 +7,7 @@ import com.badlogic.gdx.ScreenAdapter;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.utils.viewport.Viewport;
+import com.coffee.entity.BoundedPooledEngine;
 import com.coffee.entity.EntityFactory;
 import com.coffee.entity.systems.*;
 import com.coffee.main.Application;
@@ -29,14 +30,17 @@ public class PlayerTest extends ScreenAdapter {
 
         BATCH = app.getBatch();
         VIEWPORT = app.getViewport();
-        ENGINE = new PooledEngine();
+        ENGINE = new BoundedPooledEngine();
+        EntityFactory.setEngine(ENGINE);
         SHAPE_RENDERER = app.getShapeRenderer();
 
+        ENGINE.addSystem(new TimerSystem());
         ENGINE.addSystem(new DrawSystem(BATCH, VIEWPORT));
         //ENGINE.addSystem(new DebugDrawSystem(SHAPE_RENDERER, VIEWPORT));
         ENGINE.addSystem(new BulletSystem(VIEWPORT));
         ENGINE.addSystem(new MovementSystem(VIEWPORT));
         ENGINE.addSystem(new CollisionSystem(app.getShapeRenderer(), VIEWPORT, true));
+        ENGINE.addSystem(new HealthSystem());
         ENGINE.addSystem(new PlayerSystem(VIEWPORT));
 
         player = EntityFactory.createPlayer(0, 0);
@@ -57,13 +61,13 @@ public class PlayerTest extends ScreenAdapter {
         Application app = (Application) Gdx.app.getApplicationListener();
 
         EntityFactory.setEngine(ENGINE);
-        app.getInputMultiplexer().addProcessor(Mapper.INPUT.get(player).PROCESSOR);
+        app.getInputMultiplexer().addProcessor(Mapper.INPUT.get(player).processor);
     }
 
     @Override
     public void hide() {
         Application app = (Application) Gdx.app.getApplicationListener();
 
-        app.getInputMultiplexer().removeProcessor(Mapper.INPUT.get(player).PROCESSOR);
+        app.getInputMultiplexer().removeProcessor(Mapper.INPUT.get(player).processor);
     }
 }
@@ -7,11 +7,13 @@ import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.utils.viewport.Viewport;
+import com.coffee.entity.BoundedPooledEngine;
 import com.coffee.entity.EntityFactory;
 import com.coffee.entity.systems.DrawSystem;
 import com.coffee.entity.systems.LifetimeSystem;
 import com.coffee.entity.systems.MovementSystem;
 import com.coffee.entity.systems.SpawnerSystem;
+import com.coffee.entity.systems.TimerSystem;
 import com.coffee.main.Application;
 
 /**
@@ -30,9 +32,11 @@ public class StarsTest extends ScreenAdapter {
 
         BATCH = app.getBatch();
         VIEWPORT = app.getViewport();
-        ENGINE = new PooledEngine();
+        ENGINE = new BoundedPooledEngine();
+        EntityFactory.setEngine(ENGINE);
         SHAPE_RENDERER = app.getShapeRenderer();
 
+        ENGINE.addSystem(new TimerSystem());
         ENGINE.addSystem(new SpawnerSystem(ENGINE));
         ENGINE.addSystem(new DrawSystem(BATCH, VIEWPORT));
         ENGINE.addSystem(new MovementSystem(VIEWPORT));
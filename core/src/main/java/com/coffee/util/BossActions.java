@@ -5,13 +5,14 @@ import com.badlogic.ashley.core.Entity;
 import com.badlogic.ashley.core.Family;
 import com.badlogic.ashley.utils.ImmutableArray;
 import com.badlogic.gdx.graphics.Color;
-import com.badlogic.gdx.math.Interpolation;
 import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.viewport.Viewport;
+import com.coffee.entity.CommandBuffer;
 import com.coffee.entity.EntityFactory;
 import com.coffee.entity.components.*;
+import com.coffee.entity.systems.BulletWorld;
 
 /**
  * Class of actions that the boss can do.
@@ -89,7 +90,7 @@ public class BossActions {
             TransformComponent TRANSFORM = Mapper.TRANSFORM.get(boss);
 
             if (!createdBall) {
-                ENGINE.addEntity(EntityFactory.createEnemyShotgunBlast(TRANSFORM.POSITION.x + TRANSFORM.ORIGIN.x, TRANSFORM.POSITION.y + 32, 0));
+                CommandBuffer.of(ENGINE).spawn(EntityFactory.createEnemyShotgunBlast(TRANSFORM.POSITION.x + TRANSFORM.ORIGIN.x, TRANSFORM.POSITION.y + 32, 0));
                 createdBall = true;
                 timer = 2.5f;
             } else
@@ -102,35 +103,9 @@ public class BossActions {
     /**
      * {@link Action Action} that creates a slow-moving spiral of bullets.
      */
-    public static class SimpleSpiralAttack extends Action {
-        private int iterations;
-        private float fireTimer;
-        private final Engine ENGINE;
-
+    public static class SimpleSpiralAttack extends PatternAttack {
         public SimpleSpiralAttack(Engine e) {
-            ENGINE = e;
-        }
-
-        public boolean act (Entity boss, float deltaTime) {
-            AIComponent AI = Mapper.AI.get(boss);
-            TransformComponent TRANSFORM = Mapper.TRANSFORM.get(boss);
-
-           fireTimer += deltaTime;
-
-            if (fireTimer >= 0.1f) {
-                for (int i = 0; i < 6; i++) {
-                    float deg = iterations * 7 + i * 60;
-                    float xPlace = TRANSFORM.POSITION.x + TRANSFORM.ORIGIN.x + 3 * MathUtils.cos(deg * MathUtils.degreesToRadians);
-                    float yPlace = TRANSFORM.POSITION.y + TRANSFORM.ORIGIN.y + 3 * MathUtils.sin(deg * MathUtils.degreesToRadians);
-
-                    ENGINE.addEntity(EntityFactory.createEnemyBall(xPlace, yPlace, deg));
-                }
-
-                fireTimer = 0;
-                iterations++;
-            }
-
-            return iterations == 75;
+            super(e, BulletPatterns.get("simpleSpiral"));
         }
     }
 
@@ -138,8 +113,9 @@ public class BossActions {
      * {@link Action Action} that has the boss shoot one laser at the player.
      */
     public static class SimpleLaserAttack extends Action {
+        private static final float EMIT_TIME = 250 / 60f;
         private float fireTimer;
-        private int iterations;
+        private boolean fired;
         private final Vector2 TARGET;
         private final Engine ENGINE;
         private final Viewport VIEWPORT;
@@ -155,18 +131,14 @@ public class BossActions {
             AIComponent AI = Mapper.AI.get(boss);
             TransformComponent TRANSFORM = Mapper.TRANSFORM.get(boss);
 
-            fireTimer += deltaTime;
-
-            if (iterations == 0) { // Assume that if we have not shot a bullet yet, we have not even specified a target
+            if (!fired) {
                 final ImmutableArray<Entity> PLAYERS = ENGINE.getEntitiesFor(Family.all(PlayerComponent.class, TransformComponent.class).get());
                 if (PLAYERS.size() != 0) {
                     TransformComponent PLAYER_TRANS = Mapper.TRANSFORM.get(PLAYERS.first());
 
                     TARGET.set(PLAYER_TRANS.POSITION).add(PLAYER_TRANS.ORIGIN);
                 }
-            }
 
-            if (fireTimer >= 0.001f) {
                 final Vector2 SELF_LOC = new Vector2(TRANSFORM.POSITION).add(TRANSFORM.ORIGIN);
 
                 float theta = MathUtils.atan2(TARGET.y - SELF_LOC.y, TARGET.x - SELF_LOC.x);
@@ -174,20 +146,17 @@ public class BossActions {
                 float xPlace = SELF_LOC.x + 3 * MathUtils.cos(theta);
                 float yPlace = SELF_LOC.y + 3 * MathUtils.sin(theta);
 
-                final Entity E = EntityFactory.createEnemyBullet(xPlace, yPlace, theta * MathUtils.radDeg);
-                final MovementComponent MOVE = Mapper.MOVEMENT.get(E);
-                final BulletComponent BULLET = Mapper.BULLET.get(E);
+                // One beam instead of a bullet every frame
+                final Entity E = EntityFactory.createEnemyBeam(xPlace, yPlace, theta * MathUtils.radDeg, 10, EMIT_TIME, 16, 1);
+                Mapper.BULLET.get(E).damage = 2;
 
-                MOVE.moveSpeed = 10;
-                BULLET.damage = 2;
-
-                ENGINE.addEntity(E);
-
-                fireTimer = 0;
-                iterations++;
+                CommandBuffer.of(ENGINE).spawn(E);
+                fired = true;
             }
 
-            return iterations == 250;
+            fireTimer += deltaTime;
+
+            return fireTimer >= EMIT_TIME;
         }
     }
 
@@ -197,6 +166,12 @@ public class BossActions {
     public static class InvisibleHomingBulletsAttack extends Action {
         private float fireTimer;
         private final Engine ENGINE;
+        private final RingBurst VOLLEY = new RingBurst() {
+            @Override
+            protected Entity createAt(float x, float y, float deg) {
+                return EntityFactory.createHomingEnemyBullet(x, y, deg);
+            }
+        };
 
         public InvisibleHomingBulletsAttack(Engine e) {
             ENGINE = e;
@@ -210,13 +185,7 @@ public class BossActions {
             fireTimer += deltaTime;
 
             if (fireTimer >= 0.1f) {
-                for (int i = 0; i < 6; i++) {
-                    float deg = 220 + i * 20;
-                    float xPlace = TRANSFORM.POSITION.x + TRANSFORM.ORIGIN.x + 3 * MathUtils.cos(deg * MathUtils.degreesToRadians);
-                    float yPlace = TRANSFORM.POSITION.y + TRANSFORM.ORIGIN.y + 3 * MathUtils.sin(deg * MathUtils.degreesToRadians);
-
-                    ENGINE.addEntity(EntityFactory.createHomingEnemyBullet(xPlace, yPlace, deg));
-                }
+                EntityFactory.spawnBurst(ENGINE, 6, VOLLEY.set(TRANSFORM.POSITION.x + TRANSFORM.ORIGIN.x, TRANSFORM.POSITION.y + TRANSFORM.ORIGIN.y, 3, 220, 20));
                 return true;
             }
             return false;
@@ -226,119 +195,18 @@ public class BossActions {
     /**
      * {@link Action Action} that shoots a spiral of fading bullets.
      */
-    public static class TempestBloom extends Action {
-        private float fireTimer;
-        private int iterations;
-        private final Engine ENGINE;
-
+    public static class TempestBloom extends PatternAttack {
         public TempestBloom(Engine e) {
-            ENGINE = e;
-        }
-
-        public boolean act(Entity entity, float deltaTime) {
-            AIComponent AI = Mapper.AI.get(entity);
-            TransformComponent TRANSFORM = Mapper.TRANSFORM.get(entity);
-            HealthComponent HEALTH = Mapper.HEALTH.get(entity);
-
-            fireTimer += deltaTime;
-
-            if (fireTimer >= 0.1f) {
-                for (int i = 0; i < 6; i++) {
-                    float deg = iterations * 7 + i * 60;
-                    float xPlace = TRANSFORM.POSITION.x + TRANSFORM.ORIGIN.x + 3 * MathUtils.cos(deg * MathUtils.degreesToRadians);
-                    float yPlace = TRANSFORM.POSITION.y + TRANSFORM.ORIGIN.y + 3 * MathUtils.sin(deg * MathUtils.degreesToRadians);
-
-                    final Entity E = EntityFactory.createEnemyBullet(xPlace, yPlace, deg);
-                    final BulletComponent BULLET = Mapper.BULLET.get(E);
-                    final SpriteComponent SPRITE = Mapper.SPRITE.get(E);
-                    final MovementComponent MOVE = Mapper.MOVEMENT.get(E);
-
-                    BULLET.handler = (float dt) -> SPRITE.SPRITES.get(0).setColor(
-                        SPRITE.SPRITES.get(0).getColor().r,
-                        MathUtils.clamp(SPRITE.SPRITES.get(0).getColor().g - dt, 0, 1),
-                        MathUtils.clamp(SPRITE.SPRITES.get(0).getColor().b - dt, 0, 1),
-                        MathUtils.clamp(SPRITE.SPRITES.get(0).getColor().a - dt / 20f, 0, 1)
-                    );
-
-                    ENGINE.addEntity(E);
-                }
-
-                fireTimer = 0;
-                iterations++;
-            }
-            return iterations == 75;
+            super(e, BulletPatterns.get("tempestBloom"));
         }
     }
 
     /**
      * {@link Action Action} that fires a cone of bullets.
      */
-    public static class SimpleConeAttack extends Action {
-        private float fireTimer;
-        private int iterations;
-        private final Engine ENGINE;
-
+    public static class SimpleConeAttack extends PatternAttack {
         public SimpleConeAttack(Engine e) {
-            ENGINE = e;
-        }
-
-        public boolean act(Entity entity, float deltaTime) {
-            AIComponent AI = Mapper.AI.get(entity);
-            TransformComponent TRANSFORM = Mapper.TRANSFORM.get(entity);
-            HealthComponent HEALTH = Mapper.HEALTH.get(entity);
-
-            fireTimer += deltaTime;
-
-            if (fireTimer >= 0.15) {
-                if (iterations % 2 == 0)
-                    for (int i = 0; i < 17; i++) {
-                        float deg = 190 + i * 10;
-                        float xPlace = TRANSFORM.POSITION.x + TRANSFORM.ORIGIN.x + 3 * MathUtils.cos(deg * MathUtils.degreesToRadians);
-                        float yPlace = TRANSFORM.POSITION.y + TRANSFORM.ORIGIN.y + 3 * MathUtils.sin(deg * MathUtils.degreesToRadians);
-
-                        final Entity E = EntityFactory.createEnemyBullet(xPlace, yPlace, deg);
-                        final MovementComponent MOVEMENT = Mapper.MOVEMENT.get(E);
-                        final BulletComponent BULLET = Mapper.BULLET.get(E);
-
-                        MOVEMENT.moveSpeed = 7;
-                        BULLET.handler = (float dt) -> {
-                            if (MOVEMENT.moveSpeed != 2) {
-                                if (MOVEMENT.moveSpeed > 2)
-                                    MOVEMENT.moveSpeed -= dt * 3;
-                                if (MOVEMENT.moveSpeed < 2)
-                                    MOVEMENT.moveSpeed = 2;
-                            }
-                        };
-
-                        ENGINE.addEntity(E);
-                    }
-                else
-                    for (int i = 0; i < 16; i++) {
-                        float deg = 195 + i * 10;
-                        float xPlace = TRANSFORM.POSITION.x + TRANSFORM.ORIGIN.x + 3 * MathUtils.cos(deg * MathUtils.degreesToRadians);
-                        float yPlace = TRANSFORM.POSITION.y + TRANSFORM.ORIGIN.y + 3 * MathUtils.sin(deg * MathUtils.degreesToRadians);
-
-                        final Entity E = EntityFactory.createEnemyBullet(xPlace, yPlace, deg);
-                        final MovementComponent MOVEMENT = Mapper.MOVEMENT.get(E);
-                        final BulletComponent BULLET = Mapper.BULLET.get(E);
-
-                        MOVEMENT.moveSpeed = 7;
-                        BULLET.handler = (float dt) -> {
-                            if (MOVEMENT.moveSpeed != 2) {
-                                if (MOVEMENT.moveSpeed > 2)
-                                    MOVEMENT.moveSpeed -= dt * 3;
-                                if (MOVEMENT.moveSpeed < 2)
-                                    MOVEMENT.moveSpeed = 2;
-                            }
-                        };
-
-                        ENGINE.addEntity(E);
-                    }
-
-                fireTimer = 0;
-                iterations++;
-            }
-            return iterations == 20;
+            super(e, BulletPatterns.get("simpleCone"));
         }
     }
 
@@ -349,6 +217,12 @@ public class BossActions {
         private float fireTimer;
         private int iterations;
         private final Engine ENGINE;
+        private final RingBurst VOLLEY = new RingBurst() {
+            @Override
+            protected Entity createAt(float x, float y, float deg) {
+                return EntityFactory.createHomingEnemyBullet(x, y, deg);
+            }
+        };
 
         public HomingBulletCircleAttack(Engine e) {
             ENGINE = e;
@@ -362,13 +236,7 @@ public class BossActions {
             fireTimer += deltaTime;
 
             if (fireTimer >= 0.1f) {
-                for (int i = 0; i < 6; i++) {
-                    float deg = iterations * 7 + i * 60;
-                    float xPlace = TRANSFORM.POSITION.x + TRANSFORM.ORIGIN.x + 3 * MathUtils.cos(deg * MathUtils.degreesToRadians);
-                    float yPlace = TRANSFORM.POSITION.y + TRANSFORM.ORIGIN.y + 3 * MathUtils.sin(deg * MathUtils.degreesToRadians);
-
-                    ENGINE.addEntity(EntityFactory.createHomingEnemyBullet(xPlace, yPlace, deg));
-                }
+                EntityFactory.spawnBurst(ENGINE, 6, VOLLEY.set(TRANSFORM.POSITION.x + TRANSFORM.ORIGIN.x, TRANSFORM.POSITION.y + TRANSFORM.ORIGIN.y, 3, iterations * 7, 60));
 
                 fireTimer = 0;
                 iterations++;
@@ -384,6 +252,12 @@ public class BossActions {
         private float fireTimer;
         private final Engine ENGINE;
         private final Viewport VIEWPORT;
+        private final RingBurst VOLLEY = new RingBurst() {
+            @Override
+            protected Entity createAt(float x, float y, float deg) {
+                return EntityFactory.createEnemyLaserEmitter(x, y, deg);
+            }
+        };
 
         public TripleLaserBallAttack(Engine e, Viewport v) {
             ENGINE = e;
@@ -404,13 +278,7 @@ public class BossActions {
 
                 float theta = MathUtils.radDeg * MathUtils.atan2(WORLD_CENTER.y - TRANS_CENTER.y, WORLD_CENTER.x - TRANS_CENTER.x);
 
-                for (int i = 0; i < 3; i++) {
-                    float deg = theta + i * 30 - 30;
-                    float xPlace = TRANSFORM.POSITION.x + TRANSFORM.ORIGIN.x + 3 * MathUtils.cos(deg * MathUtils.degreesToRadians);
-                    float yPlace = TRANSFORM.POSITION.y + TRANSFORM.ORIGIN.y + 3 * MathUtils.sin(deg * MathUtils.degreesToRadians);
-
-                    ENGINE.addEntity(EntityFactory.createEnemyLaserEmitter(xPlace, yPlace, deg));
-                }
+                EntityFactory.spawnBurst(ENGINE, 3, VOLLEY.set(TRANS_CENTER.x, TRANS_CENTER.y, 3, theta - 30, 30));
                 return true;
             }
             return false;
@@ -424,6 +292,17 @@ public class BossActions {
         private final Engine ENGINE;
         private final float OFFSET;
         private float timer;
+        private final RingBurst VOLLEY = new RingBurst() {
+            @Override
+            protected Entity createAt(float x, float y, float deg) {
+                final Entity B = EntityFactory.createEnemyLaserEmitter(x, y, deg);
+                final BulletComponent BULLET = Mapper.BULLET.get(B);
+
+                BULLET.despawnTime = 1f;
+
+                return B;
+            }
+        };
 
         public QuadLaserBallAttack(Engine e, float offset) {
             ENGINE = e;
@@ -437,18 +316,7 @@ public class BossActions {
             if (timer >= 0.1f) {
                 TransformComponent TRANSFORM = Mapper.TRANSFORM.get(boss);
 
-                for (int i = 0; i < 4; i++) {
-                    float deg = OFFSET + i * 90;
-                    float xPlace = TRANSFORM.POSITION.x + TRANSFORM.ORIGIN.x + 3 * MathUtils.cos(deg * MathUtils.degreesToRadians);
-                    float yPlace = TRANSFORM.POSITION.y + TRANSFORM.ORIGIN.y + 3 * MathUtils.sin(deg * MathUtils.degreesToRadians);
-
-                    final Entity B = EntityFactory.createEnemyLaserEmitter(xPlace, yPlace, deg);
-                    final BulletComponent BULLET = Mapper.BULLET.get(B);
-
-                    BULLET.despawnTime = 1f;
-
-                    ENGINE.addEntity(B);
-                }
+                EntityFactory.spawnBurst(ENGINE, 4, VOLLEY.set(TRANSFORM.POSITION.x + TRANSFORM.ORIGIN.x, TRANSFORM.POSITION.y + TRANSFORM.ORIGIN.y, 3, OFFSET, 90));
                 return true;
             }
 
@@ -463,6 +331,22 @@ public class BossActions {
         private float fireTimer;
         private int iterations;
         private final Engine ENGINE;
+        private final RingBurst VOLLEY = new RingBurst() {
+            @Override
+            protected Entity createAt(float x, float y, float deg) {
+                final Entity E = EntityFactory.createEnemyBall(x, y, deg);
+                final MovementComponent MOVE = Mapper.MOVEMENT.get(E);
+                final SpriteComponent SPRITE = Mapper.SPRITE.get(E);
+                final BulletComponent BULLET = Mapper.BULLET.get(E);
+
+                SPRITE.SPRITES.first().setColor(221 / 255f, 66f / 255f, 121f / 255f, 1);
+
+                BULLET.damage = 6;
+                BULLET.handler = BulletHandlers.SHIFTING_SPIRAL;
+
+                return E;
+            }
+        };
 
         public ShiftingSpiralAttack(Engine e) {
             ENGINE = e;
@@ -476,32 +360,7 @@ public class BossActions {
             fireTimer += deltaTime;
 
             if (fireTimer >= 0.1) {
-                for (int i = 0; i < 6; i++) {
-                    float deg = iterations * 7 + i * 60;
-                    float xPlace = TRANSFORM.POSITION.x + TRANSFORM.ORIGIN.x + 3 * MathUtils.cos(deg * MathUtils.degreesToRadians);
-                    float yPlace = TRANSFORM.POSITION.y + TRANSFORM.ORIGIN.y + 3 * MathUtils.sin(deg * MathUtils.degreesToRadians);
-
-                    final Entity E = EntityFactory.createEnemyBall(xPlace, yPlace, deg);
-                    final MovementComponent MOVE = Mapper.MOVEMENT.get(E);
-                    final SpriteComponent SPRITE = Mapper.SPRITE.get(E);
-                    final BulletComponent BULLET = Mapper.BULLET.get(E);
-
-                    SPRITE.SPRITES.first().setColor(221 / 255f, 66f / 255f, 121f / 255f, 1);
-
-                    BULLET.damage = 6;
-                    BULLET.handler = (float dt) -> {
-                        SPRITE.SPRITES.get(0).setColor(
-                                MathUtils.clamp(SPRITE.SPRITES.get(0).getColor().r - dt / 20f, 0, 1),
-                                MathUtils.clamp(SPRITE.SPRITES.get(0).getColor().g - dt / 15f, 0, 1),
-                                MathUtils.clamp(SPRITE.SPRITES.get(0).getColor().b + dt / 2f, 0, 1),
-                                SPRITE.SPRITES.get(0).getColor().a
-                        );
-                        MOVE.MOVEMENT_NORMAL.rotate(dt * 24);
-                        MOVE.moveSpeed += dt;
-                    };
-
-                    ENGINE.addEntity(E);
-                }
+                EntityFactory.spawnBurst(ENGINE, 6, VOLLEY.set(TRANSFORM.POSITION.x + TRANSFORM.ORIGIN.x, TRANSFORM.POSITION.y + TRANSFORM.ORIGIN.y, 3, iterations * 7, 60));
 
                 fireTimer = 0;
                 iterations++;
@@ -517,6 +376,24 @@ public class BossActions {
         private float fireTimer;
         private int iterations;
         private final Engine ENGINE;
+        private final RingBurst VOLLEY = new RingBurst() {
+            @Override
+            protected Entity createAt(float x, float y, float deg) {
+                final Entity E = EntityFactory.createEnemyBall(x, y, deg);
+                final MovementComponent MOVE = Mapper.MOVEMENT.get(E);
+                final SpriteComponent SPRITE = Mapper.SPRITE.get(E);
+                final BulletComponent BULLET = Mapper.BULLET.get(E);
+
+                SPRITE.SPRITES.first().setColor(221 / 255f, 66f / 255f, 121f / 255f, 1);
+
+                MOVE.moveSpeed = 0;
+
+                BULLET.damage = 6;
+                BULLET.handler = BulletHandlers.REVERSE_SHIFTING_SPIRAL;
+
+                return E;
+            }
+        };
 
         public ReverseShiftingSpiralAttack(Engine e) {
             ENGINE = e;
@@ -529,34 +406,7 @@ public class BossActions {
             fireTimer += deltaTime;
 
             if (fireTimer >= 0.1) {
-                for (int i = 0; i < 6; i++) {
-                    float deg = iterations * 7 + i * 60;
-                    float xPlace = TRANSFORM.POSITION.x + TRANSFORM.ORIGIN.x + 3 * MathUtils.cos(deg * MathUtils.degreesToRadians);
-                    float yPlace = TRANSFORM.POSITION.y + TRANSFORM.ORIGIN.y + 3 * MathUtils.sin(deg * MathUtils.degreesToRadians);
-
-                    final Entity E = EntityFactory.createEnemyBall(xPlace, yPlace, deg);
-                    final MovementComponent MOVE = Mapper.MOVEMENT.get(E);
-                    final SpriteComponent SPRITE = Mapper.SPRITE.get(E);
-                    final BulletComponent BULLET = Mapper.BULLET.get(E);
-
-                    SPRITE.SPRITES.first().setColor(221 / 255f, 66f / 255f, 121f / 255f, 1);
-
-                    MOVE.moveSpeed = 0;
-
-                    BULLET.damage = 6;
-                    BULLET.handler = (float dt) -> {
-                        SPRITE.SPRITES.get(0).setColor(
-                                MathUtils.clamp(SPRITE.SPRITES.get(0).getColor().r - dt / 20f, 0, 1),
-                                MathUtils.clamp(SPRITE.SPRITES.get(0).getColor().g + dt / 2f, 0, 1),
-                                MathUtils.clamp(SPRITE.SPRITES.get(0).getColor().b - dt / 15f, 0, 1),
-                                SPRITE.SPRITES.get(0).getColor().a
-                        );
-                        MOVE.MOVEMENT_NORMAL.rotate(-dt * 22);
-                        MOVE.moveSpeed += dt * 2;
-                    };
-
-                    ENGINE.addEntity(E);
-                }
+                EntityFactory.spawnBurst(ENGINE, 6, VOLLEY.set(TRANSFORM.POSITION.x + TRANSFORM.ORIGIN.x, TRANSFORM.POSITION.y + TRANSFORM.ORIGIN.y, 3, iterations * 7, 60));
 
                 fireTimer = 0;
                 iterations++;
@@ -568,131 +418,18 @@ public class BossActions {
     /**
      * {@link Action Action} that shoots a wave of fading bullets.
      */
-    public static class ImperishableNight extends Action {
-        private float fireTimer;
-        private int iterations;
-        private final Engine ENGINE;
-
+    public static class ImperishableNight extends PatternAttack {
         public ImperishableNight(Engine e) {
-            ENGINE = e;
-        }
-
-        public boolean act(Entity entity, float deltaTime) {
-            AIComponent AI = Mapper.AI.get(entity);
-            TransformComponent TRANSFORM = Mapper.TRANSFORM.get(entity);
-
-            fireTimer += deltaTime;
-
-            if (fireTimer >= 0.1f) {
-                float xPlace;
-                float yPlace;
-
-                if (iterations % 20 != 0) { // Spiral Attack
-                    for (int i = 0; i < 12; i++) {
-                        float deg = iterations * 7 + i * 30;
-                        xPlace = TRANSFORM.POSITION.x + TRANSFORM.ORIGIN.x + 3 * MathUtils.cos(deg * MathUtils.degreesToRadians);
-                        yPlace = TRANSFORM.POSITION.y + TRANSFORM.ORIGIN.y + 3 * MathUtils.sin(deg * MathUtils.degreesToRadians);
-
-                        final Entity B = EntityFactory.createEnemyBall(xPlace, yPlace, deg);
-                        final SpriteComponent SPRITE = Mapper.SPRITE.get(B);
-                        final BulletComponent BULLET = Mapper.BULLET.get(B);
-                        final MovementComponent MOVE = Mapper.MOVEMENT.get(B);
-
-                        MOVE.moveSpeed = 2;
-                        BULLET.handler = new BulletHandler() {
-                            private float timer = 0;
-                            @Override
-                            public void update(float dt) {
-                                timer += dt / 2f;
-                                SPRITE.SPRITES.first().setColor(Color.RED.cpy().lerp(new Color(0, 0, 1f, 0), (MathUtils.cos(timer * MathUtils.PI2) + 1) / 2f));
-                                MOVE.MOVEMENT_NORMAL.rotate(dt * 5);
-                            }
-                        };
-
-                        ENGINE.addEntity(B);
-                    }
-                }
-                fireTimer = 0;
-                iterations++;
-            }
-            return iterations == 70;
+            super(e, BulletPatterns.get("imperishableNight"));
         }
     }
 
     /**
      * {@link Action Action} that shoots a bullets that loops into a flower shape
      */
-    public static class SpringBlossom extends Action {
-        private float fireTimer;
-        private int iterations;
-        private final Engine ENGINE;
-
+    public static class SpringBlossom extends PatternAttack {
         public SpringBlossom(Engine e) {
-            ENGINE = e;
-        }
-
-        public boolean act(Entity entity, float deltaTime) {
-            AIComponent AI = Mapper.AI.get(entity);
-            TransformComponent TRANSFORM = Mapper.TRANSFORM.get(entity);
-
-            fireTimer += deltaTime;
-
-            if (fireTimer >= 0.10f) {
-                float xPlace;
-                float yPlace;
-
-                for (int i = 0; i < 5; i++) {
-                    float deg = iterations * 7 + i * 72;
-                    xPlace = TRANSFORM.POSITION.x + TRANSFORM.ORIGIN.x + 3 * MathUtils.cos(deg * MathUtils.degreesToRadians);
-                    yPlace = TRANSFORM.POSITION.y + TRANSFORM.ORIGIN.y + 3 * MathUtils.sin(deg * MathUtils.degreesToRadians);
-
-                    final Entity B = EntityFactory.createEnemyBall(xPlace, yPlace, deg);
-                    final SpriteComponent SPRITE = Mapper.SPRITE.get(B);
-                    final BulletComponent BULLET = Mapper.BULLET.get(B);
-                    final MovementComponent MOVE = Mapper.MOVEMENT.get(B);
-                    final TransformComponent TRANS = Mapper.TRANSFORM.get(B);
-
-                    BULLET.despawnTime = -1;
-                    BULLET.damage = 3;
-                    MOVE.moveSpeed = 7;
-
-                    BULLET.handler = new BulletHandler() {
-                        private final float TURN_RATE = 90f; // Rate in degrees/sec
-                        private float colorTimer, angleTimer;
-                        private boolean looped;
-                        private float targetX = 0, targetY = 0;
-
-                        @Override
-                        public void update(float dt) {
-                            float angleDelta = dt * TURN_RATE;
-
-                            colorTimer += dt / 2f;
-
-                            if (!looped) {
-                                SPRITE.SPRITES.first().setColor(Color.RED.cpy().lerp(Color.WHITE, (MathUtils.cos(colorTimer * MathUtils.PI2) + 1) / 2f));
-
-                                angleTimer += angleDelta;
-
-                                MOVE.MOVEMENT_NORMAL.rotate(angleDelta);
-                                if (angleTimer >= 359) {
-                                    /*BULLET.despawnTime = 0;
-                                    colorTimer = 0;
-                                    looped = true;*/
-                                    ENGINE.removeEntity(B);
-                                }
-                            } else
-                                SPRITE.SPRITES.first().setColor(Color.WHITE.cpy().lerp(Color.GREEN, colorTimer * 2f));
-
-                        }
-                    };
-
-                    ENGINE.addEntity(B);
-                }
-
-                fireTimer = 0;
-                iterations++;
-            }
-            return iterations == 70;
+            super(e, BulletPatterns.get("springBlossom"));
         }
     }
 
@@ -741,27 +478,14 @@ public class BossActions {
 
                 BULLET.damage = 2;
                 MOVE.moveSpeed = 10;
+                BULLET.angle = theta * MathUtils.radDeg;
 
                 if (iterations % 2 == 0)
-                    BULLET.handler = new BulletHandler() {
-                        private float timer = 0;
-                        @Override
-                        public void update(float dt) {
-                            MOVE.MOVEMENT_NORMAL.setAngle((theta * MathUtils.radDeg) + MathUtils.cos(timer * MathUtils.PI2) * 50);
-                            timer += dt * 2;
-                        }
-                    };
+                    BULLET.handler = BulletHandlers.HELIX_LEFT;
                 else
-                    BULLET.handler = new BulletHandler() {
-                        private float timer = 0;
-                        @Override
-                        public void update(float dt) {
-                            MOVE.MOVEMENT_NORMAL.setAngle((theta * MathUtils.radDeg) - MathUtils.cos(timer * MathUtils.PI2) * 50);
-                            timer += dt * 2;
-                        }
-                    };
+                    BULLET.handler = BulletHandlers.HELIX_RIGHT;
 
-                ENGINE.addEntity(B);
+                CommandBuffer.of(ENGINE).spawn(B);
 
                 fireTimer = 0;
                 iterations++;
@@ -779,6 +503,12 @@ public class BossActions {
         private int iterations;
         private final Vector2 TARGET;
         private final Engine ENGINE;
+        private final RingBurst LASERS = new RingBurst() {
+            @Override
+            protected Entity createAt(float x, float y, float deg) {
+                return EntityFactory.createEnemyLaserEmitter(x, y, deg);
+            }
+        };
 
         public HelixPlusAttack(Engine e, Viewport v) {
             ENGINE = e;
@@ -818,38 +548,19 @@ public class BossActions {
 
                         MOVE.moveSpeed = 10;
                         BULLET.damage = 2;
+                        BULLET.angle = theta * MathUtils.radDeg;
 
                         if (iterations % 3 == 0)
-                            BULLET.handler = new BulletHandler() {
-                                private float timer;
-                                @Override
-                                public void update(float dt) {
-                                    MOVE.MOVEMENT_NORMAL.setAngle((theta * MathUtils.radDeg) + MathUtils.cos(timer * MathUtils.PI2) * 50);
-                                    timer += dt * 2;
-                                }
-                            };
+                            BULLET.handler = BulletHandlers.HELIX_LEFT;
                         else if (iterations % 3 == 1)
-                            BULLET.handler = new BulletHandler() {
-                                private float timer;
-                                @Override
-                                public void update(float dt) {
-                                    MOVE.MOVEMENT_NORMAL.setAngle((theta * MathUtils.radDeg) - MathUtils.cos(timer * MathUtils.PI2) * 50);
-                                    timer += dt * 2;
-                                }
-                            };
+                            BULLET.handler = BulletHandlers.HELIX_RIGHT;
                         else if (iterations % 3 == 2)
                             BULLET.handler = null;
 
-                        ENGINE.addEntity(B);
+                        CommandBuffer.of(ENGINE).spawn(B);
 
                     } else { // Lasers
-                        for (int i = 0; i < 3; i++) {
-                            float theta = iterations * 7 + i * 120;
-                            xPlace = SELF_LOC.x + 3 * MathUtils.cos(theta * MathUtils.degreesToRadians);
-                            yPlace = SELF_LOC.y + 3 * MathUtils.sin(theta * MathUtils.degreesToRadians);
-
-                            ENGINE.addEntity(EntityFactory.createEnemyLaserEmitter(xPlace, yPlace, theta));
-                        }
+                        EntityFactory.spawnBurst(ENGINE, 3, LASERS.set(SELF_LOC.x, SELF_LOC.y, 3, iterations * 7, 120));
                     }
 
                     timer = 0;
@@ -866,53 +577,9 @@ public class BossActions {
      * {@link Action Action} that has the boss shoot a fast stream of bullets in all directions.
      */
     // TODO improve this
-    public static class LunaticGun extends Action {
-        private float fireTimer;
-        private int iterations;
-        private final Engine ENGINE;
-
-        public LunaticGun (Engine e) {
-            ENGINE = e;
-        }
-
-        public boolean act(Entity entity, float deltaTime) {
-            AIComponent AI = Mapper.AI.get(entity);
-            TransformComponent TRANSFORM = Mapper.TRANSFORM.get(entity);
-
-            fireTimer += deltaTime;
-
-            if (fireTimer >= 0.002f) {
-                for (int i = 0; i < 8; i++) {
-                    float deg = iterations * 35;
-                    float xPlace = TRANSFORM.POSITION.x + TRANSFORM.ORIGIN.x + 3 * MathUtils.cos(deg * MathUtils.degreesToRadians);
-                    float yPlace = TRANSFORM.POSITION.y + TRANSFORM.ORIGIN.y + 3 * MathUtils.sin(deg * MathUtils.degreesToRadians);
-
-                    final Entity BALL = EntityFactory.createEnemyBall(xPlace, yPlace, deg);
-                    final SpriteComponent SPRITE = Mapper.SPRITE.get(BALL);
-                    final BulletComponent BULLET = Mapper.BULLET.get(BALL);
-                    final MovementComponent MOVE = Mapper.MOVEMENT.get(BALL);
-
-                    SPRITE.SPRITES.first().setColor(1, 174 / 255f, 117 / 255f, 1);
-
-                    MOVE.moveSpeed = MathUtils.lerp(7, 4, i / 6.0f);
-
-                    BULLET.damage = 3;
-
-                    BULLET.handler = (float dt) -> {
-                        if (MOVE.moveSpeed > 4) {
-                            MOVE.moveSpeed -= dt * 3;
-                            if (MOVE.moveSpeed <= 4)
-                                MOVE.moveSpeed = 4;
-                        }
-                    };
-
-                    ENGINE.addEntity(BALL);
-                }
-
-                fireTimer = 0;
-                iterations++;
-            }
-            return iterations == 500;
+    public static class LunaticGun extends PatternAttack {
+        public LunaticGun(Engine e) {
+            super(e, BulletPatterns.get("lunaticGun"));
         }
     }
 
@@ -936,7 +603,7 @@ public class BossActions {
             if (fireTimer >= 0.02f) {
                 final Vector2 TRANS_LOC = new Vector2(TRANSFORM.POSITION).add(TRANSFORM.ORIGIN);
 
-                ENGINE.addEntity(EntityFactory.createEmitterBall(TRANS_LOC.x, TRANS_LOC.y, 270));
+                CommandBuffer.of(ENGINE).spawn(EntityFactory.createEmitterBall(TRANS_LOC.x, TRANS_LOC.y, 270));
                 return true;
             }
             return false;
@@ -950,6 +617,12 @@ public class BossActions {
         private float fireTimer;
         private float iterations;
         private final Engine ENGINE;
+        private final RingBurst VOLLEY = new RingBurst() {
+            @Override
+            protected Entity createAt(float x, float y, float deg) {
+                return EntityFactory.createEnemyBallExploding(x, y, deg);
+            }
+        };
 
         public AsteroidField(Engine e) {
             ENGINE = e;
@@ -962,13 +635,7 @@ public class BossActions {
             fireTimer += deltaTime;
 
             if (fireTimer >= 0.175f) {
-                for (int i = 0; i < 6; i++) {
-                    float deg = iterations * 7 + i * 60;
-                    float xPlace = TRANSFORM.POSITION.x + TRANSFORM.ORIGIN.x + 3 * MathUtils.cos(deg * MathUtils.degreesToRadians);
-                    float yPlace = TRANSFORM.POSITION.y + TRANSFORM.ORIGIN.y + 3 * MathUtils.sin(deg * MathUtils.degreesToRadians);
-
-                    ENGINE.addEntity(EntityFactory.createEnemyBallExploding(xPlace, yPlace, deg));
-                }
+                EntityFactory.spawnBurst(ENGINE, 6, VOLLEY.set(TRANSFORM.POSITION.x + TRANSFORM.ORIGIN.x, TRANSFORM.POSITION.y + TRANSFORM.ORIGIN.y, 3, iterations * 7, 60));
 
                 fireTimer = 0;
                 iterations++;
@@ -999,61 +666,14 @@ public class BossActions {
                 final Vector2 TRANS_LOC = new Vector2(TRANSFORM.POSITION).add(TRANSFORM.ORIGIN);
                 final Entity BALL = EntityFactory.createEmitterBall(TRANS_LOC.x, TRANS_LOC.y, 270);
                 SpriteComponent BALL_SPRITE = Mapper.SPRITE.get(BALL);
-                MovementComponent BALL_MOVE = Mapper.MOVEMENT.get(BALL);
                 BALL_SPRITE.SPRITES.first().setColor(Color.WHITE);
-                BALL.remove(ColliderComponent.class);
-
-                Mapper.BULLET.get(BALL).handler = new BulletHandler() {
-                    private float timer;
-                    private float explodeTime = MathUtils.random(1.25f, 3.75f);
-                    private int timesShot;
-                    private int deg;
-                    @Override
-                    public void update(float dt) {
-                        timer += dt;
-
-                        if (timesShot >= 450) {
-                            ENGINE.removeEntity(BALL);
-                            return;
-                        }
-
-                        if (timer < explodeTime) {
-                            BALL_MOVE.moveSpeed = Interpolation.pow4In.apply(3, 0, timer / explodeTime);
-                            BALL_SPRITE.SPRITES.get(0).setColor(
-                                    MathUtils.clamp(BALL_SPRITE.SPRITES.first().getColor().r - dt / 2f, 0, 1),
-                                    MathUtils.clamp(BALL_SPRITE.SPRITES.first().getColor().g - dt / 2f, 0, 1),
-                                    MathUtils.clamp(BALL_SPRITE.SPRITES.first().getColor().b + dt / 2f, 0, 1),
-                                    BALL_SPRITE.SPRITES.first().getColor().a
-                            );
-                        }
-
-                        if (timer >= .001f + explodeTime) {
-                            Mapper.MOVEMENT.get(BALL).moveSpeed = 0;
-
-                            final Vector2 TRANS_CENTER = new Vector2(Mapper.TRANSFORM.get(BALL).POSITION).add(Mapper.TRANSFORM.get(BALL).ORIGIN);
-                            final float theta = deg * 90f;
-                            final float xPlace = TRANS_CENTER.x + 16 * MathUtils.cosDeg(theta);
-                            final float yPlace = TRANS_CENTER.y + 16 * MathUtils.sinDeg(theta);
-                            final Entity B = EntityFactory.createEnemyBall(xPlace, yPlace, theta);
-                            final SpriteComponent B_SPRITE = Mapper.SPRITE.get(B);
-                            final MovementComponent B_MOVE = Mapper.MOVEMENT.get(B);
-                            final BulletComponent B_BULLET = Mapper.BULLET.get(B);
-
-                            B_SPRITE.SPRITES.first().setColor(Color.WHITE);
-                            B_SPRITE.zIndex = BALL_SPRITE.zIndex - 1;
-
-                            B_MOVE.moveSpeed = 6;
-
-                            B_BULLET.damage = 3;
-
-                            ENGINE.addEntity(B);
-                            timer = explodeTime;
-                            deg++;
-                            timesShot++;
-                        }
-                    }
-                };
-                ENGINE.addEntity(BALL);
+
+                final BulletComponent BALL_BULLET = Mapper.BULLET.get(BALL);
+                BALL_BULLET.handler = BulletHandlers.PLUS_BEAM;
+                BALL_BULLET.stateDuration = MathUtils.random(1.25f, 3.75f);
+
+                // The ball only carries the beams, so it doesn't hurt the player itself
+                CommandBuffer.of(ENGINE).remove(BALL, ColliderComponent.class).spawn(BALL);
 
                 return true;
             }
@@ -1083,61 +703,14 @@ public class BossActions {
                 final Vector2 TRANS_LOC = new Vector2(TRANSFORM.POSITION).add(TRANSFORM.ORIGIN);
                 final Entity BALL = EntityFactory.createEmitterBall(TRANS_LOC.x, TRANS_LOC.y, 270);
                 SpriteComponent BALL_SPRITE = Mapper.SPRITE.get(BALL);
-                MovementComponent BALL_MOVE = Mapper.MOVEMENT.get(BALL);
                 BALL_SPRITE.SPRITES.first().setColor(Color.WHITE);
-                BALL.remove(ColliderComponent.class);
-
-                Mapper.BULLET.get(BALL).handler = new BulletHandler() {
-                    private float timer;
-                    private float explodeTime = MathUtils.random(1.25f, 3.75f);
-                    private int timesShot;
-                    private int deg;
-                    @Override
-                    public void update(float dt) {
-                        timer += dt;
-
-                        if (timesShot >= 450) {
-                            ENGINE.removeEntity(BALL);
-                            return;
-                        }
-
-                        if (timer < explodeTime) {
-                            BALL_MOVE.moveSpeed = Interpolation.pow4In.apply(3, 0, timer / explodeTime);
-                            BALL_SPRITE.SPRITES.get(0).setColor(
-                                    MathUtils.clamp(BALL_SPRITE.SPRITES.first().getColor().r + dt / 2f, 0, 1),
-                                    MathUtils.clamp(BALL_SPRITE.SPRITES.first().getColor().g - dt / 2f, 0, 1),
-                                    MathUtils.clamp(BALL_SPRITE.SPRITES.first().getColor().b - dt / 2f, 0, 1),
-                                    BALL_SPRITE.SPRITES.first().getColor().a
-                            );
-                        }
-
-                        if (timer >= .001f + explodeTime) {
-                            Mapper.MOVEMENT.get(BALL).moveSpeed = 0;
-
-                            final Vector2 TRANS_CENTER = new Vector2(Mapper.TRANSFORM.get(BALL).POSITION).add(Mapper.TRANSFORM.get(BALL).ORIGIN);
-                            final float theta = 45 + deg * 90f;
-                            final float xPlace = TRANS_CENTER.x + 16 * MathUtils.cosDeg(theta);
-                            final float yPlace = TRANS_CENTER.y + 16 * MathUtils.sinDeg(theta);
-                            final Entity B = EntityFactory.createEnemyBall(xPlace, yPlace, theta);
-                            final SpriteComponent B_SPRITE = Mapper.SPRITE.get(B);
-                            final MovementComponent B_MOVE = Mapper.MOVEMENT.get(B);
-                            final BulletComponent B_BULLET = Mapper.BULLET.get(B);
-
-                            B_SPRITE.SPRITES.first().setColor(Color.WHITE);
-                            B_SPRITE.zIndex = BALL_SPRITE.zIndex - 1;
-
-                            B_MOVE.moveSpeed = 6;
-
-                            B_BULLET.damage = 3;
-
-                            ENGINE.addEntity(B);
-                            timer = explodeTime;
-                            deg++;
-                            timesShot++;
-                        }
-                    }
-                };
-                ENGINE.addEntity(BALL);
+
+                final BulletComponent BALL_BULLET = Mapper.BULLET.get(BALL);
+                BALL_BULLET.handler = BulletHandlers.X_BEAM;
+                BALL_BULLET.stateDuration = MathUtils.random(1.25f, 3.75f);
+
+                // The ball only carries the beams, so it doesn't hurt the player itself
+                CommandBuffer.of(ENGINE).remove(BALL, ColliderComponent.class).spawn(BALL);
 
                 return true;
             }
@@ -1167,61 +740,14 @@ public class BossActions {
                 final Vector2 TRANS_LOC = new Vector2(TRANSFORM.POSITION).add(TRANSFORM.ORIGIN);
                 final Entity BALL = EntityFactory.createEmitterBall(TRANS_LOC.x, TRANS_LOC.y, 270);
                 SpriteComponent BALL_SPRITE = Mapper.SPRITE.get(BALL);
-                MovementComponent BALL_MOVE = Mapper.MOVEMENT.get(BALL);
                 BALL_SPRITE.SPRITES.first().setColor(Color.WHITE);
-                BALL.remove(ColliderComponent.class);
-
-                Mapper.BULLET.get(BALL).handler = new BulletHandler() {
-                    private float timer;
-                    private float explodeTime = MathUtils.random(1.25f, 3.75f);
-                    private int timesShot;
-                    private int deg;
-                    @Override
-                    public void update(float dt) {
-                        timer += dt;
-
-                        if (timesShot >= 450) {
-                            ENGINE.removeEntity(BALL);
-                            return;
-                        }
-
-                        if (timer < explodeTime) {
-                            BALL_MOVE.moveSpeed = Interpolation.pow4In.apply(3, 0, timer / explodeTime);
-                            BALL_SPRITE.SPRITES.get(0).setColor(
-                                    MathUtils.clamp(BALL_SPRITE.SPRITES.first().getColor().r + dt / 2f, 0, 1),
-                                    MathUtils.clamp(BALL_SPRITE.SPRITES.first().getColor().g - dt / 2f, 0, 1),
-                                    MathUtils.clamp(BALL_SPRITE.SPRITES.first().getColor().b + dt / 2f, 0, 1),
-                                    BALL_SPRITE.SPRITES.first().getColor().a
-                            );
-                        }
-
-                        if (timer >= .001f + explodeTime) {
-                            Mapper.MOVEMENT.get(BALL).moveSpeed = 0;
-
-                            final Vector2 TRANS_CENTER = new Vector2(Mapper.TRANSFORM.get(BALL).POSITION).add(Mapper.TRANSFORM.get(BALL).ORIGIN);
-                            final float theta = 10 + deg * 45f;
-                            final float xPlace = TRANS_CENTER.x + 16 * MathUtils.cosDeg(theta);
-                            final float yPlace = TRANS_CENTER.y + 16 * MathUtils.sinDeg(theta);
-                            final Entity B = EntityFactory.createEnemyBall(xPlace, yPlace, theta);
-                            final SpriteComponent B_SPRITE = Mapper.SPRITE.get(B);
-                            final MovementComponent B_MOVE = Mapper.MOVEMENT.get(B);
-                            final BulletComponent B_BULLET = Mapper.BULLET.get(B);
-
-                            B_SPRITE.SPRITES.first().setColor(new Color(.9f, .3f, .9f, 1));
-                            B_SPRITE.zIndex = BALL_SPRITE.zIndex - 1;
-
-                            B_MOVE.moveSpeed = 5;
-
-                            B_BULLET.damage = 3;
-
-                            ENGINE.addEntity(B);
-                            timer = explodeTime;
-                            deg++;
-                            timesShot++;
-                        }
-                    }
-                };
-                ENGINE.addEntity(BALL);
+
+                final BulletComponent BALL_BULLET = Mapper.BULLET.get(BALL);
+                BALL_BULLET.handler = BulletHandlers.STAR_BEAM;
+                BALL_BULLET.stateDuration = MathUtils.random(1.25f, 3.75f);
+
+                // The ball only carries the beams, so it doesn't hurt the player itself
+                CommandBuffer.of(ENGINE).remove(BALL, ColliderComponent.class).spawn(BALL);
 
                 return true;
             }
@@ -1229,6 +755,36 @@ public class BossActions {
         }
     }
 
+    /**
+     * {@link Action Action} that runs a {@link BulletEmitter} from the center of the boss until its pattern is done.
+     */
+    public static class PatternAttack extends Action {
+        private final Engine ENGINE;
+        private final BulletEmitter EMITTER;
+        private boolean started;
+
+        public PatternAttack(Engine e, BulletEmitter emitter) {
+            ENGINE = e;
+            EMITTER = emitter;
+        }
+
+        public boolean act(Entity boss, float deltaTime) {
+            TransformComponent TRANSFORM = Mapper.TRANSFORM.get(boss);
+
+            if (!started) {
+                EMITTER.reset();
+                started = true;
+            }
+
+            return EMITTER.update(
+                deltaTime,
+                TRANSFORM.POSITION.x + TRANSFORM.ORIGIN.x,
+                TRANSFORM.POSITION.y + TRANSFORM.ORIGIN.y,
+                ENGINE.getSystem(BulletWorld.class)
+            );
+        }
+    }
+
     /**
      * A sequence of actions that can be run. This runs basically in the same way that
      * the {@link com.coffee.entity.systems.AISystem AISystem} runs the task list.
@@ -0,0 +1,51 @@
+package com.coffee.util;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.utils.Array;
+import com.coffee.entity.components.ColliderComponent;
+
+/**
+ * Contract for the spatial structures that the {@link com.coffee.entity.systems.CollisionSystem CollisionSystem}
+ * uses to cut down the amount of {@link ColliderComponent}s it has to check against each other.
+ * Implementations are rebuilt every frame by clearing them and inserting every collider again.
+ */
+public interface Broadphase {
+    /**
+     * Removes every {@link Entity} from the structure.
+     */
+    void clear();
+
+    /**
+     * Inserts an {@link Entity} into the structure using the bounds of its {@link ColliderComponent}.
+     *
+     * @param entity the {@code Entity} to insert
+     */
+    void insert(Entity entity);
+
+    /**
+     * Gets all the possible collisions with the specified collider.
+     *
+     * @param possibleCollisions an empty {@code Array<Entity>} to store all the possible entities that could be in collision
+     * @param entity the {@code Entity} to check for collisions
+     * @return the same {@code Array<Entity>} that was passed in
+     */
+    Array<Entity> retrieve(Array<Entity> possibleCollisions, Entity entity);
+
+    /**
+     * Gets every {@link Entity} whose collider bounds overlap the specified area.
+     *
+     * @param minX the left side of the area
+     * @param minY the bottom side of the area
+     * @param maxX the right side of the area
+     * @param maxY the top side of the area
+     * @param out  the {@code Array<Entity>} to add the entities to
+     * @return the same {@code Array<Entity>} that was passed in
+     */
+    Array<Entity> query(float minX, float minY, float maxX, float maxY, Array<Entity> out);
+
+    /**
+     * Debug draw method
+     */
+    void draw(ShapeRenderer renderer);
+}
@@ -0,0 +1,181 @@
+package com.coffee.util;
+
+import com.coffee.entity.systems.BulletWorld;
+
+/**
+ * A compiled {@link BulletPattern} that fires its bullets into a {@link BulletWorld}. The angle and offset of every
+ * bullet of every volley were worked out when the pattern was compiled, so firing is only a table lookup, and the
+ * same emitter can be used again after a {@link #reset()} without allocating anything.
+ * <p>
+ * An emitter remembers how far along its pattern it is, so two attacks that run the same pattern at once each need
+ * their own {@link #copy()}. Copies share the compiled tables with the emitter they were made from.
+ * <p>
+ * An emitter fires at most one volley each update, so {@link #getPeakBulletsPerUpdate()} is a hard limit on how
+ * many bullets it can add in a frame.
+ */
+public class BulletEmitter {
+    private final int KIND, COUNT, VOLLEYS, SKIP_EVERY, DAMAGE;
+    private final float DELAY, INTERVAL;
+    private final float[] ANGLES, OFFSET_X, OFFSET_Y, SPEEDS;
+    private final float ACCELERATION, SPEED_LIMIT, TURN_SPEED, WAVE_AMPLITUDE, WAVE_FREQUENCY, LIFETIME, PULSE_FREQUENCY;
+    private final float[] COLOR, FADE, PULSE;
+    private final BulletEmitter[] CHILDREN;
+
+    private float timer;
+    private int volley;
+
+    BulletEmitter(BulletPattern pattern, int kind, float[] angles, float[] offsetX, float[] offsetY, float[] speeds, BulletEmitter[] children) {
+        KIND = kind;
+        COUNT = pattern.count;
+        VOLLEYS = pattern.volleys;
+        SKIP_EVERY = pattern.skipEvery;
+        DAMAGE = pattern.damage;
+        DELAY = pattern.delay;
+        INTERVAL = pattern.interval;
+        ANGLES = angles;
+        OFFSET_X = offsetX;
+        OFFSET_Y = offsetY;
+        SPEEDS = speeds;
+        ACCELERATION = pattern.acceleration;
+        SPEED_LIMIT = pattern.speedLimit;
+        TURN_SPEED = pattern.turnSpeed;
+        WAVE_AMPLITUDE = pattern.waveAmplitude;
+        WAVE_FREQUENCY = pattern.waveFrequency;
+        LIFETIME = pattern.lifetime;
+        PULSE_FREQUENCY = pattern.pulseFrequency;
+        COLOR = pattern.color;
+        FADE = pattern.fade;
+        PULSE = pattern.pulse;
+        CHILDREN = children;
+    }
+
+    private BulletEmitter(BulletEmitter template) {
+        KIND = template.KIND;
+        COUNT = template.COUNT;
+        VOLLEYS = template.VOLLEYS;
+        SKIP_EVERY = template.SKIP_EVERY;
+        DAMAGE = template.DAMAGE;
+        DELAY = template.DELAY;
+        INTERVAL = template.INTERVAL;
+        ANGLES = template.ANGLES;
+        OFFSET_X = template.OFFSET_X;
+        OFFSET_Y = template.OFFSET_Y;
+        SPEEDS = template.SPEEDS;
+        ACCELERATION = template.ACCELERATION;
+        SPEED_LIMIT = template.SPEED_LIMIT;
+        TURN_SPEED = template.TURN_SPEED;
+        WAVE_AMPLITUDE = template.WAVE_AMPLITUDE;
+        WAVE_FREQUENCY = template.WAVE_FREQUENCY;
+        LIFETIME = template.LIFETIME;
+        PULSE_FREQUENCY = template.PULSE_FREQUENCY;
+        COLOR = template.COLOR;
+        FADE = template.FADE;
+        PULSE = template.PULSE;
+        CHILDREN = new BulletEmitter[template.CHILDREN.length];
+
+        for (int i = 0; i < CHILDREN.length; i++)
+            CHILDREN[i] = template.CHILDREN[i].copy();
+    }
+
+    /**
+     * @return a new emitter for the same pattern, at the start of it
+     */
+    public BulletEmitter copy() {
+        return new BulletEmitter(this);
+    }
+
+    /**
+     * Starts the pattern over from the beginning.
+     */
+    public void reset() {
+        timer = 0;
+        volley = 0;
+
+        for (BulletEmitter child : CHILDREN)
+            child.reset();
+    }
+
+    /**
+     * Advances the pattern, firing the next volley if it is time to.
+     *
+     * @param deltaTime the amount of time passed since last frame
+     * @param x         the x-coordinate to fire from
+     * @param y         the y-coordinate to fire from
+     * @param world     the {@link BulletWorld} to fire into
+     * @return whether or not this pattern and all of its children are done
+     */
+    public boolean update(float deltaTime, float x, float y, BulletWorld world) {
+        boolean done = true;
+
+        for (BulletEmitter child : CHILDREN)
+            done &= child.update(deltaTime, x, y, world);
+
+        if (volley < VOLLEYS) {
+            timer += deltaTime;
+
+            if (timer >= (volley == 0 ? DELAY : INTERVAL)) {
+                if (SKIP_EVERY == 0 || volley % SKIP_EVERY != 0)
+                    fire(x, y, world);
+
+                timer = 0;
+                volley++;
+            }
+        }
+
+        return done && volley >= VOLLEYS;
+    }
+
+    private void fire(float x, float y, BulletWorld world) {
+        int first = volley * COUNT;
+
+        for (int i = 0; i < COUNT; i++) {
+            int b = world.spawn(KIND, x + OFFSET_X[first + i], y + OFFSET_Y[first + i], ANGLES[first + i], SPEEDS[i], DAMAGE);
+
+            if (ACCELERATION != 0)
+                world.setAcceleration(b, ACCELERATION, SPEED_LIMIT);
+            else if (TURN_SPEED != 0)
+                world.setTurnSpeed(b, TURN_SPEED);
+            else if (WAVE_AMPLITUDE != 0)
+                world.setWave(b, WAVE_AMPLITUDE, WAVE_FREQUENCY);
+
+            if (LIFETIME >= 0)
+                world.setLifetime(b, LIFETIME);
+
+            if (COLOR != null)
+                world.setColor(b, COLOR[0], COLOR[1], COLOR[2], COLOR[3]);
+            if (FADE != null)
+                world.setColorFade(b, FADE[0], FADE[1], FADE[2], FADE[3]);
+            else if (PULSE != null)
+                world.setColorPulse(b, PULSE[0], PULSE[1], PULSE[2], PULSE[3], PULSE_FREQUENCY);
+        }
+    }
+
+    /**
+     * @return the most bullets this pattern and its children can fire in one update
+     */
+    public int getPeakBulletsPerUpdate() {
+        int total = VOLLEYS > 0 ? COUNT : 0;
+
+        for (BulletEmitter child : CHILDREN)
+            total += child.getPeakBulletsPerUpdate();
+
+        return total;
+    }
+
+    /**
+     * @return how many bullets this pattern and its children fire from start to finish
+     */
+    public int getTotalBullets() {
+        int total = 0;
+
+        for (int v = 0; v < VOLLEYS; v++) {
+            if (SKIP_EVERY == 0 || v % SKIP_EVERY != 0)
+                total += COUNT;
+        }
+
+        for (BulletEmitter child : CHILDREN)
+            total += child.getTotalBullets();
+
+        return total;
+    }
+}
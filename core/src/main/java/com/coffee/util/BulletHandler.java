@@ -1,10 +1,35 @@
 package com.coffee.util;
 
+import com.badlogic.ashley.core.Engine;
+import com.badlogic.ashley.core.Entity;
+import com.coffee.entity.components.BulletComponent;
+
 /**
  * Interface that allows for some active bullet maneuvers and processes.
+ * <p>
+ * One handler is shared by every bullet that behaves the same way, so it should keep
+ * whatever it needs between updates in the bullet's {@link BulletComponent}, not in itself.
  *
  * @author Jared Tulayan
  */
 public interface BulletHandler {
-    public void update(float dt);
+    /**
+     * @param bullet    the bullet being updated
+     * @param engine    the {@link Engine} the bullet is in, whose {@link com.coffee.entity.CommandBuffer} to add or remove entities with
+     * @param deltaTime the amount of time passed since last frame
+     */
+    public void update(Entity bullet, Engine engine, float deltaTime);
+
+    /**
+     * Makes up for time the bullet spent waiting to be spawned, before it is added to the engine. This is called
+     * instead of {@link #update(Entity, Engine, float)} a frame at a time, and just updates the bullet by default;
+     * a handler that can't do that yet, or can skip ahead in one go, should override it.
+     *
+     * @param bullet    the bullet being caught up, not yet in the engine
+     * @param engine    the {@link Engine} the bullet is going to be added to
+     * @param deltaTime how much of the time it waited to make up for
+     */
+    default void advance(Entity bullet, Engine engine, float deltaTime) {
+        update(bullet, engine, deltaTime);
+    }
 }
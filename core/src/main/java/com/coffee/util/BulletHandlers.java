@@ -0,0 +1,436 @@
+package com.coffee.util;
+
+import com.badlogic.ashley.core.Engine;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.ashley.utils.ImmutableArray;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.Sprite;
+import com.badlogic.gdx.math.Interpolation;
+import com.badlogic.gdx.math.MathUtils;
+import com.coffee.entity.CommandBuffer;
+import com.coffee.entity.EntityFactory;
+import com.coffee.entity.components.*;
+import com.coffee.entity.systems.CollisionSystem;
+import com.coffee.entity.systems.QualityGovernor;
+
+/**
+ * Class containing every {@link BulletHandler} used by the enemy bullets. Each one is shared by all the bullets
+ * that behave the same way and keeps its per-bullet state in the bullet's {@link BulletComponent},
+ * so giving a bullet a behavior doesn't allocate anything.
+ */
+public class BulletHandlers {
+    private static final Family PLAYERS = Family.all(PlayerComponent.class, TransformComponent.class).get();
+
+    // Bursts are set up right before they are spawned, so one of each is enough
+    private static final RingBurst SHOTGUN_SPRAY = new RingBurst() {
+        @Override
+        public Entity create(int index) {
+            // Each bullet goes off a random whole number of steps into the cone, instead of one step after the last
+            return super.create(MathUtils.random(25));
+        }
+
+        @Override
+        protected Entity createAt(float x, float y, float deg) {
+            final Entity E = EntityFactory.createEnemyBullet(x, y, deg);
+            Mapper.BULLET.get(E).damage = 7;
+            Mapper.MOVEMENT.get(E).moveSpeed = 10;
+
+            return E;
+        }
+    };
+
+    private static final RingBurst EXPLOSION = new RingBurst() {
+        @Override
+        protected Entity createAt(float x, float y, float deg) {
+            final Entity BALL = EntityFactory.createEnemyBall(x, y, deg);
+            Mapper.BULLET.get(BALL).damage = 3;
+            Mapper.SPRITE.get(BALL).SPRITES.first().setColor(Color.RED);
+            Mapper.MOVEMENT.get(BALL).moveSpeed = 2;
+
+            return BALL;
+        }
+    };
+
+    /**
+     * Grows in over 1 second, then bursts into a spread of bullets aimed down when {@code stateTimer} runs out.
+     */
+    public static final BulletHandler SHOTGUN_BLAST = new BulletHandler() {
+        @Override
+        public void update(Entity bullet, Engine engine, float deltaTime) {
+            final BulletComponent BULLET = Mapper.BULLET.get(bullet);
+
+            if (BULLET.stateTimer > 0) {
+                final TransformComponent TRANSFORM = Mapper.TRANSFORM.get(bullet);
+
+                BULLET.stateTimer -= deltaTime;
+                float scale = MathUtils.clamp(3 - BULLET.stateTimer, 0, 1);
+                Mapper.SPRITE.get(bullet).SPRITES.first().setScale(scale);
+                Mapper.COLLIDER.get(bullet).BODY.setScale(scale, scale);
+
+                if (BULLET.stateTimer <= 0) {
+                    EntityFactory.spawnBurst(engine, 20, SHOTGUN_SPRAY.set(TRANSFORM.POSITION.x + TRANSFORM.ORIGIN.x, TRANSFORM.POSITION.y + TRANSFORM.ORIGIN.y, 3, 257.5f, 1));
+                    CommandBuffer.of(engine).despawn(bullet);
+                }
+            }
+        }
+    };
+
+    /**
+     * Grows in and slows down until {@code stateTimer} runs out, then turns to the player and fires a beam at them.
+     */
+    public static final BulletHandler LASER_EMITTER = new BulletHandler() {
+        @Override
+        public void update(Entity bullet, Engine engine, float deltaTime) {
+            final BulletComponent BULLET = Mapper.BULLET.get(bullet);
+            final MovementComponent MOVEMENT = Mapper.MOVEMENT.get(bullet);
+
+            switch (BULLET.state) {
+                case 0: // Shrinking stage
+                    final TransformComponent TRANSFORM = Mapper.TRANSFORM.get(bullet);
+
+                    BULLET.stateTimer -= deltaTime;
+
+                    float scale = MathUtils.clamp((4 - BULLET.stateTimer) / 2f, 0, 1);
+                    Mapper.SPRITE.get(bullet).SPRITES.first().setScale(scale);
+                    Mapper.COLLIDER.get(bullet).BODY.setScale(scale, scale);
+                    MOVEMENT.moveSpeed = MathUtils.clamp(MOVEMENT.moveSpeed - deltaTime / 4f, 0, 1);
+
+                    if (BULLET.stateTimer <= 0) {
+                        final ImmutableArray<Entity> PLAYER_LIST = engine.getEntitiesFor(PLAYERS);
+                        float
+                            centerX = TRANSFORM.POSITION.x + TRANSFORM.ORIGIN.x,
+                            centerY = TRANSFORM.POSITION.y + TRANSFORM.ORIGIN.y,
+                            targetX = 0,
+                            targetY = 0;
+
+                        if (PLAYER_LIST.size() > 0) {
+                            final TransformComponent PLAYER_TRANS = Mapper.TRANSFORM.get(PLAYER_LIST.first());
+                            targetX = PLAYER_TRANS.POSITION.x + PLAYER_TRANS.ORIGIN.x;
+                            targetY = PLAYER_TRANS.POSITION.y + PLAYER_TRANS.ORIGIN.y;
+                        }
+
+                        TRANSFORM.rotation = MathUtils.radDeg * MathUtils.atan2(targetY - centerY, targetX - centerX);
+
+                        // Fire one beam that lasts as long as the shooting stage
+                        float theta = TRANSFORM.rotation;
+                        float xPlace = centerX + 3 * MathUtils.cosDeg(theta);
+                        float yPlace = centerY + 3 * MathUtils.sinDeg(theta);
+
+                        final Entity B = EntityFactory.createEnemyBeam(xPlace, yPlace, theta, 10, 2, 16, 1);
+                        Mapper.BULLET.get(B).damage = 2;
+                        CommandBuffer.of(engine).spawn(B);
+
+                        BULLET.stateTimer = 2;
+                        BULLET.state++;
+                    }
+                    break;
+                case 1: // Shooting at the player stage
+                    BULLET.stateTimer -= deltaTime;
+                    MOVEMENT.moveSpeed = 0;
+
+                    if (BULLET.stateTimer <= 0)
+                        BULLET.state++;
+                    break;
+                default:
+                    CommandBuffer.of(engine).despawn(bullet);
+            }
+        }
+    };
+
+    /**
+     * Slows down until it stops, waits for {@code stateTimer}, then shoots off towards the nearest player while turning red and fading.
+     */
+    public static final BulletHandler HOMING = new BulletHandler() {
+        @Override
+        public void update(Entity bullet, Engine engine, float deltaTime) {
+            final BulletComponent BULLET = Mapper.BULLET.get(bullet);
+            final MovementComponent MOVEMENT = Mapper.MOVEMENT.get(bullet);
+
+            switch (BULLET.state) {
+                case 0: // Slow down bullet
+                    MOVEMENT.moveSpeed = MathUtils.clamp(MOVEMENT.moveSpeed - deltaTime * 4, 0, MOVEMENT.moveSpeed);
+                    if (MOVEMENT.moveSpeed == 0) {
+                        BULLET.stateTimer -= deltaTime;
+                        if (BULLET.stateTimer <= 0)
+                            BULLET.state++;
+                    }
+                    break;
+                case 1: // Select target and set speed
+                    final TransformComponent TRANSFORM = Mapper.TRANSFORM.get(bullet);
+                    final CollisionSystem COLLISION = engine.getSystem(CollisionSystem.class);
+                    float
+                        locX = TRANSFORM.POSITION.x + TRANSFORM.ORIGIN.x,
+                        locY = TRANSFORM.POSITION.y + TRANSFORM.ORIGIN.y,
+                        targetX = 0,
+                        targetY = 0;
+                    final Entity PLAYER = COLLISION == null ? null : COLLISION.nearest(locX, locY, CollisionLayer.PLAYER);
+
+                    if (PLAYER != null && Mapper.TRANSFORM.has(PLAYER)) { // If there is a player to target
+                        final TransformComponent PLAYER_TRANS = Mapper.TRANSFORM.get(PLAYER);
+                        targetX = PLAYER_TRANS.POSITION.x + PLAYER_TRANS.ORIGIN.x;
+                        targetY = PLAYER_TRANS.POSITION.y + PLAYER_TRANS.ORIGIN.y;
+                    }
+
+                    MOVEMENT.moveSpeed = 6;
+                    MOVEMENT.MOVEMENT_NORMAL.setAngleRad(MathUtils.atan2(targetY - locY, targetX - locX));
+                    BULLET.state++;
+                    break;
+                case 2: // Fade, which is only for looks
+                    if (QualityGovernor.tierOf(engine) < QualityGovernor.LOW)
+                        shiftColor(Mapper.SPRITE.get(bullet).SPRITES.first(), deltaTime, -deltaTime, -deltaTime, -deltaTime);
+                    break;
+            }
+        }
+    };
+
+    /**
+     * Turns red, then bursts into a ring of 5 smaller balls when {@code stateTimer} runs out.
+     */
+    public static final BulletHandler EXPLODING_BALL = new BulletHandler() {
+        @Override
+        public void update(Entity bullet, Engine engine, float deltaTime) {
+            final BulletComponent BULLET = Mapper.BULLET.get(bullet);
+
+            BULLET.stateTimer -= deltaTime;
+            shiftColor(Mapper.SPRITE.get(bullet).SPRITES.first(), deltaTime / 2f, -deltaTime / 2f, -deltaTime / 2f, 0);
+
+            if (BULLET.stateTimer <= 0) {
+                final TransformComponent TRANSFORM = Mapper.TRANSFORM.get(bullet);
+                float
+                    locX = TRANSFORM.POSITION.x + TRANSFORM.ORIGIN.x,
+                    locY = TRANSFORM.POSITION.y + TRANSFORM.ORIGIN.y;
+
+                EntityFactory.spawnBurst(engine, 5, EXPLOSION.set(locX, locY, 0, MathUtils.random(359), 72));
+                CommandBuffer.of(engine).despawn(bullet);
+            }
+        }
+    };
+
+    /**
+     * Speeds up by 1 every second until it reaches a speed of 5.
+     */
+    public static final BulletHandler ACCELERATE = new BulletHandler() {
+        @Override
+        public void update(Entity bullet, Engine engine, float deltaTime) {
+            final MovementComponent MOVEMENT = Mapper.MOVEMENT.get(bullet);
+
+            if (MOVEMENT.moveSpeed < 5) {
+                MOVEMENT.moveSpeed += deltaTime;
+                if (MOVEMENT.moveSpeed > 5)
+                    MOVEMENT.moveSpeed = 5;
+            }
+        }
+    };
+
+    /**
+     * Leaves behind a spiral of {@link #ACCELERATE accelerating} bullets as it moves, using {@code counter} to keep track of the spiral.
+     */
+    public static final BulletHandler EMITTER_BALL = new BulletHandler() {
+        @Override
+        public void update(Entity bullet, Engine engine, float deltaTime) {
+            final BulletComponent BULLET = Mapper.BULLET.get(bullet);
+
+            BULLET.stateTimer += deltaTime;
+
+            if (BULLET.stateTimer >= 0.02f) {
+                final TransformComponent TRANSFORM = Mapper.TRANSFORM.get(bullet);
+                final float theta = BULLET.counter * 15f;
+                final float xPlace = TRANSFORM.POSITION.x + TRANSFORM.ORIGIN.x + 16 * MathUtils.cosDeg(theta);
+                final float yPlace = TRANSFORM.POSITION.y + TRANSFORM.ORIGIN.y + 16 * MathUtils.sinDeg(theta);
+                final Entity B = EntityFactory.createEnemyBullet(xPlace, yPlace, theta);
+
+                Mapper.SPRITE.get(B).zIndex = Mapper.SPRITE.get(bullet).zIndex - 1;
+                Mapper.MOVEMENT.get(B).moveSpeed = 0;
+                Mapper.BULLET.get(B).handler = ACCELERATE;
+
+                CommandBuffer.of(engine).spawn(B);
+                BULLET.stateTimer = 0;
+                BULLET.counter++;
+            }
+        }
+    };
+
+    /**
+     * Curves towards blue while turning counter-clockwise and speeding up.
+     */
+    public static final BulletHandler SHIFTING_SPIRAL = new BulletHandler() {
+        @Override
+        public void update(Entity bullet, Engine engine, float deltaTime) {
+            final MovementComponent MOVE = Mapper.MOVEMENT.get(bullet);
+
+            // The color drift is only for looks
+            if (QualityGovernor.tierOf(engine) < QualityGovernor.LOW)
+                shiftColor(Mapper.SPRITE.get(bullet).SPRITES.first(), -deltaTime / 20f, -deltaTime / 15f, deltaTime / 2f, 0);
+            MOVE.MOVEMENT_NORMAL.rotate(deltaTime * 24);
+            MOVE.moveSpeed += deltaTime;
+        }
+    };
+
+    /**
+     * Curves towards green while turning clockwise and speeding up.
+     */
+    public static final BulletHandler REVERSE_SHIFTING_SPIRAL = new BulletHandler() {
+        @Override
+        public void update(Entity bullet, Engine engine, float deltaTime) {
+            final MovementComponent MOVE = Mapper.MOVEMENT.get(bullet);
+
+            // The color drift is only for looks
+            if (QualityGovernor.tierOf(engine) < QualityGovernor.LOW)
+                shiftColor(Mapper.SPRITE.get(bullet).SPRITES.first(), -deltaTime / 20f, deltaTime / 2f, -deltaTime / 15f, 0);
+            MOVE.MOVEMENT_NORMAL.rotate(-deltaTime * 22);
+            MOVE.moveSpeed += deltaTime * 2;
+        }
+    };
+
+    /**
+     * Grows a beam out along its rotation at {@code speed} for {@code stateDuration} seconds, then flies it off
+     * until its back end is {@code range} away from where it started, using {@code stateTimer} to keep track of time.
+     */
+    public static final BulletHandler BEAM = new BulletHandler() {
+        @Override
+        public void update(Entity bullet, Engine engine, float deltaTime) {
+            final BulletComponent BULLET = Mapper.BULLET.get(bullet);
+            final TransformComponent TRANSFORM = Mapper.TRANSFORM.get(bullet);
+            final float LAST_TAIL = tail(BULLET);
+
+            BULLET.stateTimer += deltaTime;
+
+            // The front moves out from the start, and the back follows once the beam stops being emitted
+            float
+                head = Math.min(BULLET.speed * 60 * BULLET.stateTimer, BULLET.range),
+                tail = tail(BULLET);
+
+            if (tail >= BULLET.range) {
+                CommandBuffer.of(engine).despawn(bullet);
+                return;
+            }
+
+            // The position is the back end of the beam
+            TRANSFORM.POSITION.add((tail - LAST_TAIL) * MathUtils.cosDeg(TRANSFORM.rotation), (tail - LAST_TAIL) * MathUtils.sinDeg(TRANSFORM.rotation));
+            Mapper.COLLIDER.get(bullet).setLength(head - tail);
+
+            final Sprite MAIN = Mapper.SPRITE.get(bullet).SPRITES.first();
+            MAIN.setSize(head - tail, MAIN.getHeight());
+        }
+
+        private float tail(BulletComponent bullet) {
+            return bullet.speed * 60 * Math.max(bullet.stateTimer - bullet.stateDuration, 0);
+        }
+    };
+
+    /**
+     * Weaves back and forth 50 degrees around {@code angle}, starting out to the left or to the right.
+     */
+    public static final BulletHandler
+        HELIX_LEFT = new Helix(1),
+        HELIX_RIGHT = new Helix(-1);
+
+    /**
+     * Slows down until {@code stateDuration} is up, then fires beams out in a plus, an x and a 6-star respectively.
+     */
+    public static final BulletHandler
+        PLUS_BEAM = new BeamBall(0, 90, 4, 6, 4, -1, -1, 1, Color.WHITE),
+        X_BEAM = new BeamBall(45, 90, 4, 6, 4, 1, -1, -1, Color.WHITE),
+        STAR_BEAM = new BeamBall(10, 45, 8, 5, 8, 1, -1, 1, new Color(.9f, .3f, .9f, 1));
+
+    private static class Helix implements BulletHandler {
+        private final float DIRECTION;
+
+        private Helix(float direction) {
+            DIRECTION = direction;
+        }
+
+        @Override
+        public void update(Entity bullet, Engine engine, float deltaTime) {
+            final BulletComponent BULLET = Mapper.BULLET.get(bullet);
+
+            Mapper.MOVEMENT.get(bullet).MOVEMENT_NORMAL.setAngle(BULLET.angle + DIRECTION * MathUtils.cos(BULLET.stateTimer * MathUtils.PI2) * 50);
+            BULLET.stateTimer += deltaTime * 2;
+        }
+    }
+
+    private static class BeamBall implements BulletHandler {
+        private static final float EMIT_TIME = 450 / 60f;
+        private final float FIRST_ANGLE, ANGLE_STEP, BEAM_SPEED, RED, GREEN, BLUE;
+        private final int BEAMS, HIT_EVERY;
+        private final Color BEAM_COLOR;
+        private final RingBurst BURST = new RingBurst() {
+            @Override
+            protected Entity createAt(float x, float y, float deg) {
+                final Entity B = EntityFactory.createEnemyBeam(x, y, deg, BEAM_SPEED, EMIT_TIME, 12, HIT_EVERY);
+                final SpriteComponent B_SPRITE = Mapper.SPRITE.get(B);
+
+                B_SPRITE.SPRITES.first().setColor(BEAM_COLOR);
+                B_SPRITE.zIndex = zIndex - 1;
+
+                Mapper.BULLET.get(B).damage = 3;
+
+                return B;
+            }
+        };
+        // The z-index of the ball that is bursting
+        private int zIndex;
+
+        private BeamBall(float firstAngle, float angleStep, int beams, float beamSpeed, int hitEvery, float red, float green, float blue, Color beamColor) {
+            FIRST_ANGLE = firstAngle;
+            ANGLE_STEP = angleStep;
+            BEAMS = beams;
+            BEAM_SPEED = beamSpeed;
+            HIT_EVERY = hitEvery;
+            RED = red;
+            GREEN = green;
+            BLUE = blue;
+            BEAM_COLOR = beamColor;
+        }
+
+        @Override
+        public void update(Entity bullet, Engine engine, float deltaTime) {
+            final BulletComponent BULLET = Mapper.BULLET.get(bullet);
+            final MovementComponent MOVE = Mapper.MOVEMENT.get(bullet);
+            final SpriteComponent SPRITE = Mapper.SPRITE.get(bullet);
+            final float EXPLODE_TIME = BULLET.stateDuration;
+
+            BULLET.stateTimer += deltaTime;
+
+            if (BULLET.stateTimer >= EXPLODE_TIME + EMIT_TIME) {
+                CommandBuffer.of(engine).despawn(bullet);
+                return;
+            }
+
+            if (BULLET.stateTimer < EXPLODE_TIME) {
+                MOVE.moveSpeed = Interpolation.pow4In.apply(3, 0, BULLET.stateTimer / EXPLODE_TIME);
+                shiftColor(SPRITE.SPRITES.first(), RED * deltaTime / 2f, GREEN * deltaTime / 2f, BLUE * deltaTime / 2f, 0);
+            }
+
+            if (BULLET.state == 0 && BULLET.stateTimer >= .001f + EXPLODE_TIME) {
+                final TransformComponent TRANSFORM = Mapper.TRANSFORM.get(bullet);
+                float
+                    centerX = TRANSFORM.POSITION.x + TRANSFORM.ORIGIN.x,
+                    centerY = TRANSFORM.POSITION.y + TRANSFORM.ORIGIN.y;
+
+                MOVE.moveSpeed = 0;
+
+                // One beam per direction, each hit as often as a ball used to come out of it
+                zIndex = SPRITE.zIndex;
+                EntityFactory.spawnBurst(engine, BEAMS, BURST.set(centerX, centerY, 16, FIRST_ANGLE, ANGLE_STEP));
+
+                BULLET.state = 1;
+            }
+        }
+    }
+
+    /**
+     * Shifts each channel of the sprite's color by the specified amount, keeping it between 0 and 1.
+     */
+    private static void shiftColor(Sprite sprite, float r, float g, float b, float a) {
+        final Color COLOR = sprite.getColor();
+
+        sprite.setColor(
+                MathUtils.clamp(COLOR.r + r, 0, 1),
+                MathUtils.clamp(COLOR.g + g, 0, 1),
+                MathUtils.clamp(COLOR.b + b, 0, 1),
+                MathUtils.clamp(COLOR.a + a, 0, 1)
+        );
+    }
+}
@@ -0,0 +1,89 @@
+package com.coffee.util;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.coffee.entity.systems.BulletWorld;
+
+/**
+ * Description of a bullet pattern as it is written in {@code patterns/patterns.json}. Every field has a default,
+ * so a pattern only has to list what it changes. Patterns are turned into {@link BulletEmitter}s with {@link #compile()}.
+ * <p>
+ * A pattern fires {@code volleys} volleys of {@code count} bullets. The first volley goes off {@code delay} seconds after
+ * the pattern starts, and the rest every {@code interval} seconds after that. Any {@code children} run alongside it,
+ * each on its own schedule, and the pattern is done once all of them are.
+ */
+public class BulletPattern {
+    /**
+     * How the bullets of a volley are spread out.
+     */
+    public enum Shape {
+        /** Evenly spaced all the way around, facing the same way every volley. */
+        RING,
+        /** Evenly spaced all the way around, turning by {@code spin} every volley. */
+        SPIRAL,
+        /** {@code spread} degrees apart, centered on {@code angle} and turning by {@code spin} every volley. */
+        CONE
+    }
+
+    public Shape shape = Shape.RING;
+    /** Either {@code BALL} or {@code LARGE}, see {@link BulletWorld}. */
+    public String kind = "BALL";
+    public int count = 1, volleys = 1, damage = 10;
+    /** If not 0, every volley whose index is a multiple of this is skipped. */
+    public int skipEvery;
+    public float angle, spread, spin, offset, delay, interval;
+
+    /** How fast the first bullet of each volley goes, and how much faster each one after it goes. */
+    public float speed = 4, speedStep;
+    /** Only one of acceleration, turn speed or wave applies, in that order. */
+    public float acceleration, speedLimit, turnSpeed, waveAmplitude, waveFrequency;
+    public float lifetime = -1;
+
+    /** Colors are written as {@code [r, g, b, a]}. */
+    public float[] color, fade, pulse;
+    public float pulseFrequency;
+
+    public BulletPattern[] children;
+
+    /**
+     * Works out where every bullet of every volley goes ahead of time and packs it into an emitter.
+     *
+     * @return a new {@link BulletEmitter} for this pattern
+     */
+    public BulletEmitter compile() {
+        float[]
+            angles = new float[volleys * count],
+            offsetX = new float[volleys * count],
+            offsetY = new float[volleys * count],
+            speeds = new float[count];
+
+        for (int v = 0; v < volleys; v++) {
+            for (int i = 0; i < count; i++) {
+                float deg;
+
+                switch (shape) {
+                    case CONE:
+                        deg = angle + v * spin + (i - (count - 1) / 2f) * spread;
+                        break;
+                    case SPIRAL:
+                        deg = angle + v * spin + i * 360f / count;
+                        break;
+                    default:
+                        deg = angle + i * 360f / count;
+                }
+
+                angles[v * count + i] = deg;
+                offsetX[v * count + i] = offset * MathUtils.cosDeg(deg);
+                offsetY[v * count + i] = offset * MathUtils.sinDeg(deg);
+            }
+        }
+
+        for (int i = 0; i < count; i++)
+            speeds[i] = speed + i * speedStep;
+
+        BulletEmitter[] emitters = new BulletEmitter[children == null ? 0 : children.length];
+        for (int i = 0; i < emitters.length; i++)
+            emitters[i] = children[i].compile();
+
+        return new BulletEmitter(this, "LARGE".equals(kind) ? BulletWorld.LARGE : BulletWorld.BALL, angles, offsetX, offsetY, speeds, emitters);
+    }
+}
@@ -0,0 +1,45 @@
+package com.coffee.util;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.Json;
+import com.badlogic.gdx.utils.JsonReader;
+import com.badlogic.gdx.utils.JsonValue;
+import com.badlogic.gdx.utils.ObjectMap;
+
+/**
+ * Loads every {@link BulletPattern} in {@code patterns/patterns.json} and compiles each of them into a
+ * {@link BulletEmitter} once. Every attack gets its own copy of the compiled emitter, which shares its tables.
+ */
+public class BulletPatterns {
+    private static final ObjectMap<String, BulletEmitter> TEMPLATES = new ObjectMap<>();
+    private static boolean init = false;
+
+    public static void init() {
+        if (!init) {
+            Json json = new Json();
+            JsonValue patterns = new JsonReader().parse(Gdx.files.internal("patterns/patterns.json"));
+
+            for (JsonValue pattern : patterns)
+                TEMPLATES.put(pattern.name, json.readValue(BulletPattern.class, pattern).compile());
+
+            init = true;
+        }
+    }
+
+    /**
+     * Gets a new emitter for a pattern, so the same pattern can be running more than once at a time.
+     *
+     * @param name the name of the pattern
+     * @return a {@link BulletEmitter} for the pattern that nothing else is using
+     */
+    public static BulletEmitter get(String name) {
+        init();
+
+        BulletEmitter template = TEMPLATES.get(name);
+        if (template == null)
+            throw new GdxRuntimeException("No bullet pattern named " + name);
+
+        return template.copy();
+    }
+}
@@ -0,0 +1,15 @@
+package com.coffee.util;
+
+import com.badlogic.ashley.core.Entity;
+
+/**
+ * Interface for making the entities of a burst, like a ring of bullets, one index at a time.
+ */
+@FunctionalInterface
+public interface BurstInitializer {
+    /**
+     * @param index which entity of the burst to make, from 0 to one less than the size of the burst
+     * @return the new {@link Entity}, not yet added to an engine, or {@code null} to leave a gap in the burst
+     */
+    public Entity create(int index);
+}
@@ -29,6 +29,22 @@ public class CoffeeUtils {
      * @return the HSV color in the RGB color space
      */
     public static Color HSVtoRGB(float h, float s, float v) {
-        return Color.valueOf(Integer.toHexString(java.awt.Color.HSBtoRGB(h, s / 100f, v / 100f)));
+        return HSVtoRGB(h, s, v, new Color());
+    }
+
+    /**
+     * Converts a color in the HSV color space to the RGB color space, storing it in the specified {@link Color} instead of
+     * making a new one.
+     * @param h   the hue [0 - 360)
+     * @param s   the saturation [0 - 100]
+     * @param v   the value/brightness [0 - 100]
+     * @param out the {@code Color} to store the result in
+     * @return {@code out}, for chaining
+     * @see #HSVtoRGB(float, float, float)
+     */
+    public static Color HSVtoRGB(float h, float s, float v, Color out) {
+        // Same channels as reading the hex string of the packed color with Color.valueOf, without the string
+        Color.rgba8888ToColor(out, java.awt.Color.HSBtoRGB(h, s / 100f, v / 100f));
+        return out;
     }
 }
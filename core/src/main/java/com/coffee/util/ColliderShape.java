@@ -0,0 +1,111 @@
+package com.coffee.util;
+
+import com.badlogic.gdx.math.Polygon;
+import com.badlogic.gdx.utils.LongMap;
+import com.coffee.entity.components.ColliderComponent;
+
+/**
+ * Immutable outline of a collider, shared by every {@link ColliderComponent} with the same dimensions.
+ * Components only hold on to one of these, and put their own position, rotation and scale on top of it,
+ * so pooled colliders don't carry any vertices of their own.
+ * <p>
+ * Shapes are registered the first time they are asked for through {@link #box(float, float)}, {@link #circle(float)}
+ * or {@link #segment(float)}, and the same instance is handed back for the same dimensions after that.
+ */
+public final class ColliderShape {
+    /** The 32 by 32 square every collider starts out as. */
+    public static final ColliderShape DEFAULT = new ColliderShape(ColliderComponent.Shape.POLYGON, 32, 32, 0, 0, 0);
+
+    private static final LongMap<ColliderShape>
+        BOXES = new LongMap<>(),
+        CIRCLES = new LongMap<>(),
+        SEGMENTS = new LongMap<>();
+
+    public final ColliderComponent.Shape TYPE;
+    public final float ORIGIN_X, ORIGIN_Y, RADIUS;
+    private final float[] VERTICES;
+
+    private ColliderShape(ColliderComponent.Shape type, float width, float height, float originX, float originY, float radius) {
+        TYPE = type;
+        ORIGIN_X = originX;
+        ORIGIN_Y = originY;
+        RADIUS = radius;
+
+        // Segments are centered on the x-axis
+        float bottom = type == ColliderComponent.Shape.SEGMENT ? -height / 2 : 0;
+        VERTICES = new float[]{
+                0, bottom,
+                width, bottom,
+                width, bottom + height,
+                0, bottom + height
+        };
+    }
+
+    /**
+     * Gets the axis-aligned box with the specified size, with its origin at its center.
+     *
+     * @param width  the width of the box
+     * @param height the height of the box
+     */
+    public static ColliderShape box(float width, float height) {
+        long key = key(width, height);
+        ColliderShape shape = BOXES.get(key);
+
+        if (shape == null) {
+            shape = new ColliderShape(ColliderComponent.Shape.BOX, width, height, width / 2, height / 2, 0);
+            BOXES.put(key, shape);
+        }
+
+        return shape;
+    }
+
+    /**
+     * Gets the circle with the specified radius, with its origin at its center.
+     *
+     * @param r the radius of the circle
+     */
+    public static ColliderShape circle(float r) {
+        long key = key(r, 0);
+        ColliderShape shape = CIRCLES.get(key);
+
+        if (shape == null) {
+            shape = new ColliderShape(ColliderComponent.Shape.CIRCLE, 2 * r, 2 * r, r, r, r);
+            CIRCLES.put(key, shape);
+        }
+
+        return shape;
+    }
+
+    /**
+     * Gets the segment with the specified thickness. Segments are 1 unit long, and are stretched out
+     * to their actual length by the x-scale of the BODY.
+     *
+     * @param r how thick the segment is on either side
+     */
+    public static ColliderShape segment(float r) {
+        long key = key(r, 0);
+        ColliderShape shape = SEGMENTS.get(key);
+
+        if (shape == null) {
+            shape = new ColliderShape(ColliderComponent.Shape.SEGMENT, 1, 2 * r, 0, 0, r);
+            SEGMENTS.put(key, shape);
+        }
+
+        return shape;
+    }
+
+    /**
+     * Points the {@link Polygon} at the vertices of this shape and moves its origin to match.
+     * The vertices are shared, so they must not be changed through the {@code Polygon}.
+     *
+     * @param body the {@code Polygon} to give this shape
+     */
+    public void applyTo(Polygon body) {
+        body.setVertices(VERTICES);
+        body.setOrigin(ORIGIN_X, ORIGIN_Y);
+    }
+
+    private static long key(float a, float b) {
+        return ((long) Float.floatToIntBits(a) << 32) | (Float.floatToIntBits(b) & 0xFFFFFFFFL);
+    }
+}
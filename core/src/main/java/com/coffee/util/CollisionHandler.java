@@ -1,12 +1,47 @@
 package com.coffee.util;
 
+import com.badlogic.ashley.core.Engine;
 import com.badlogic.ashley.core.Entity;
 
 /**
+ * Interface for handling the effects of a collision.
+ * <p>
+ * The {@link com.coffee.entity.systems.CollisionSystem CollisionSystem} calls the methods that are also given the
+ * entity the collider belongs to and its {@link Engine}, which by default just call the ones that aren't. A handler
+ * that is shared by many entities should override those instead, and keep whatever it needs to remember about one
+ * entity in that entity's components, not in itself.
+ *
  * @author Phillip O'Reggio
  */
 public interface CollisionHandler {
-    void enterCollision(Entity entity);
-    void whileCollision(Entity entity);
-    void exitCollision(Entity entity);
+    default void enterCollision(Entity entity) {}
+    default void whileCollision(Entity entity) {}
+    default void exitCollision(Entity entity) {}
+
+    /**
+     * @param self   the entity this handler's collider belongs to
+     * @param entity the entity it started colliding with
+     * @param engine the {@link Engine} both are in
+     */
+    default void enterCollision(Entity self, Entity entity, Engine engine) {
+        enterCollision(entity);
+    }
+
+    /**
+     * @param self   the entity this handler's collider belongs to
+     * @param entity the entity it is still colliding with
+     * @param engine the {@link Engine} both are in
+     */
+    default void whileCollision(Entity self, Entity entity, Engine engine) {
+        whileCollision(entity);
+    }
+
+    /**
+     * @param self   the entity this handler's collider belongs to
+     * @param entity the entity it stopped colliding with
+     * @param engine the {@link Engine} both are in
+     */
+    default void exitCollision(Entity self, Entity entity, Engine engine) {
+        exitCollision(entity);
+    }
 }
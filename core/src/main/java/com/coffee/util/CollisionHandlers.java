@@ -0,0 +1,131 @@
+package com.coffee.util;
+
+import com.badlogic.ashley.core.Engine;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.ashley.utils.ImmutableArray;
+import com.coffee.entity.CommandBuffer;
+import com.coffee.entity.components.BulletComponent;
+import com.coffee.entity.components.HealthComponent;
+import com.coffee.entity.components.PlayerComponent;
+
+/**
+ * Class containing every {@link CollisionHandler} used by the bullets. Each one is shared by all the bullets that
+ * hit the same way and reads the damage and anything else it needs from the bullet's {@link BulletComponent},
+ * so giving a bullet a collider doesn't allocate anything.
+ */
+public class CollisionHandlers {
+    private static final Family PLAYERS = Family.all(PlayerComponent.class).get();
+
+    /**
+     * Hurts the boss and counts the hit for the player, then goes away.
+     */
+    public static final CollisionHandler PLAYER_BULLET = new CollisionHandler() {
+        @Override
+        public void enterCollision(Entity self, Entity entity, Engine engine) {
+            if (Mapper.AI.has(entity)) {
+                HealthComponent health = Mapper.HEALTH.get(entity);
+                if (!health.INVINCIBILITY.isScheduled()) {
+                    final BulletComponent BULLET = Mapper.BULLET.get(self);
+                    final ImmutableArray<Entity> PLAYER_LIST = engine.getEntitiesFor(PLAYERS);
+
+                    health.health -= BULLET.damage;
+                    if (PLAYER_LIST.size() > 0) {
+                        PlayerComponent player = Mapper.PLAYER.get(PLAYER_LIST.first());
+                        player.shotsHit++;
+                        player.score += BULLET.damage;
+                    }
+                    CommandBuffer.of(engine).despawn(self);
+                }
+            }
+        }
+
+        @Override
+        public void whileCollision(Entity self, Entity entity, Engine engine) {
+            // The boss might have been invincible when this first hit
+            enterCollision(self, entity, engine);
+        }
+    };
+
+    /**
+     * Hurts the player, then goes away.
+     */
+    public static final CollisionHandler ENEMY_BULLET = new CollisionHandler() {
+        @Override
+        public void enterCollision(Entity self, Entity entity, Engine engine) {
+            if (Mapper.PLAYER.has(entity)) {
+                HealthComponent health = Mapper.HEALTH.get(entity);
+
+                if (!health.invincible) {
+                    health.health -= Mapper.BULLET.get(self).damage;
+                    CommandBuffer.of(engine).despawn(self);
+                }
+            }
+        }
+
+        @Override
+        public void whileCollision(Entity self, Entity entity, Engine engine) {
+            // The player might have been invincible when this first hit
+            enterCollision(self, entity, engine);
+        }
+    };
+
+    /**
+     * Hurts the player once when they touch it, as long as they are alive and not recovering from a hit, and stays.
+     */
+    public static final CollisionHandler SHOTGUN_BLAST = new CollisionHandler() {
+        @Override
+        public void enterCollision(Entity self, Entity entity, Engine engine) {
+            if (Mapper.PLAYER.has(entity)) {
+                HealthComponent health = Mapper.HEALTH.get(entity);
+
+                if (health.getHealthPercent() > 0 && !health.INVINCIBILITY.isScheduled())
+                    health.health -= Mapper.BULLET.get(self).damage;
+            }
+        }
+    };
+
+    /**
+     * Hurts the player once when they touch it, and stays.
+     */
+    public static final CollisionHandler LASER_EMITTER = new CollisionHandler() {
+        @Override
+        public void enterCollision(Entity self, Entity entity, Engine engine) {
+            hurt(self, entity);
+        }
+    };
+
+    /**
+     * Hurts the player when they touch it, and again every {@code hitEvery} frames they stay in it, using
+     * {@code counter} to count the frames.
+     */
+    public static final CollisionHandler BEAM = new CollisionHandler() {
+        @Override
+        public void enterCollision(Entity self, Entity entity, Engine engine) {
+            Mapper.BULLET.get(self).counter = 0;
+            hurt(self, entity);
+        }
+
+        @Override
+        public void whileCollision(Entity self, Entity entity, Engine engine) {
+            final BulletComponent BULLET = Mapper.BULLET.get(self);
+
+            if (++BULLET.counter >= BULLET.hitEvery) {
+                BULLET.counter = 0;
+                hurt(self, entity);
+            }
+        }
+    };
+
+    /**
+     * Takes the damage of the bullet from the entity's health if it is a player that isn't invincible.
+     */
+    private static void hurt(Entity bullet, Entity entity) {
+        if (Mapper.PLAYER.has(entity)) {
+            HealthComponent health = Mapper.HEALTH.get(entity);
+
+            if (!health.invincible)
+                health.health -= Mapper.BULLET.get(bullet).damage;
+        }
+    }
+}
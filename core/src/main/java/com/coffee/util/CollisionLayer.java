@@ -0,0 +1,33 @@
+package com.coffee.util;
+
+import com.coffee.entity.components.ColliderComponent;
+
+/**
+ * Bit flags for the layers a {@link ColliderComponent} can be on.
+ * A collider sits on exactly one layer and has a mask of the layers it wants to collide with,
+ * so whole groups of bodies (like enemy bullets against each other) never get tested at all.
+ */
+public class CollisionLayer {
+    public static final int
+        NONE = 0,
+        PLAYER = 1,
+        PLAYER_BULLET = 1 << 1,
+        BOSS = 1 << 2,
+        ENEMY_BULLET = 1 << 3,
+        POWER_UP = 1 << 4,
+        DEFAULT = 1 << 5,
+        ALL = ~0;
+
+    /** The amount of layers there are, not counting {@link #NONE}. */
+    public static final int COUNT = 6;
+
+    /**
+     * Gets the index of the specified layer, for looking up per-layer data.
+     *
+     * @param layer a single layer flag
+     * @return the index of the layer in [0, {@link #COUNT})
+     */
+    public static int indexOf(int layer) {
+        return Integer.numberOfTrailingZeros(layer);
+    }
+}
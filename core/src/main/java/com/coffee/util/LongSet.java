@@ -0,0 +1,151 @@
+package com.coffee.util;
+
+import java.util.Arrays;
+
+/**
+ * Unordered set of primitive {@code long} keys that uses open addressing with linear probing,
+ * so adding and removing keys never boxes or allocates unless the set has to grow.
+ * <p>
+ * 0 is used to mark empty slots, so it can't be stored. Keys can be walked over without an iterator
+ * by checking every slot from 0 until {@link #capacity()}.
+ */
+public class LongSet {
+    private static final float LOAD_FACTOR = 0.7f;
+
+    private long[] keys;
+    private int size, mask, threshold;
+
+    /**
+     * Creates a set that can hold the specified amount of keys before growing.
+     *
+     * @param initialCapacity the amount of keys to make room for
+     */
+    public LongSet(int initialCapacity) {
+        int capacity = Integer.highestOneBit(Math.max((int) (initialCapacity / LOAD_FACTOR), 8) - 1) << 1;
+
+        keys = new long[capacity];
+        mask = capacity - 1;
+        threshold = (int) (capacity * LOAD_FACTOR);
+    }
+
+    public LongSet() {
+        this(64);
+    }
+
+    /**
+     * @param key the key to add, which can't be 0
+     * @return true if the key was not already in the set
+     */
+    public boolean add(long key) {
+        if (key == 0)
+            throw new IllegalArgumentException("key cannot be 0");
+
+        int i = place(key);
+        while (keys[i] != 0) {
+            if (keys[i] == key)
+                return false;
+
+            i = (i + 1) & mask;
+        }
+
+        keys[i] = key;
+        if (++size > threshold)
+            resize(keys.length << 1);
+
+        return true;
+    }
+
+    public boolean contains(long key) {
+        int i = place(key);
+        while (keys[i] != 0) {
+            if (keys[i] == key)
+                return true;
+
+            i = (i + 1) & mask;
+        }
+
+        return false;
+    }
+
+    /**
+     * @param key the key to remove
+     * @return true if the key was in the set
+     */
+    public boolean remove(long key) {
+        int i = place(key);
+        while (keys[i] != key) {
+            if (keys[i] == 0)
+                return false;
+
+            i = (i + 1) & mask;
+        }
+
+        // Shift back any keys after this one that were pushed past their ideal slot
+        int next = (i + 1) & mask;
+        while (keys[next] != 0) {
+            int ideal = place(keys[next]);
+
+            if (((next - ideal) & mask) >= ((next - i) & mask)) {
+                keys[i] = keys[next];
+                i = next;
+            }
+
+            next = (next + 1) & mask;
+        }
+
+        keys[i] = 0;
+        size--;
+
+        return true;
+    }
+
+    public void clear() {
+        if (size == 0)
+            return;
+
+        Arrays.fill(keys, 0);
+        size = 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return the amount of slots in the set, for walking over every key with {@link #get(int)}
+     */
+    public int capacity() {
+        return keys.length;
+    }
+
+    /**
+     * @param index a slot between 0 and {@link #capacity()}
+     * @return the key in that slot, or 0 if the slot is empty
+     */
+    public long get(int index) {
+        return keys[index];
+    }
+
+    private int place(long key) {
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+
+    private void resize(int capacity) {
+        long[] old = keys;
+
+        keys = new long[capacity];
+        mask = capacity - 1;
+        threshold = (int) (capacity * LOAD_FACTOR);
+
+        for (long key : old) {
+            if (key != 0) {
+                int i = place(key);
+                while (keys[i] != 0)
+                    i = (i + 1) & mask;
+
+                keys[i] = key;
+            }
+        }
+    }
+}
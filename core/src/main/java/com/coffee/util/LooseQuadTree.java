@@ -0,0 +1,369 @@
+package com.coffee.util;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectMap;
+import com.badlogic.gdx.utils.Pool;
+import com.coffee.entity.components.ColliderComponent;
+
+/**
+ * {@link Broadphase} quadtree whose nodes survive from one frame to the next.
+ * <p>
+ * Every node accepts anything that fits within its loose bounds, which are its actual bounds grown by a
+ * looseness factor. Because of this, an {@link Entity} that moves a little only has its cached bounding box
+ * updated in place, and only moves to another node once it leaves the loose bounds of the one it is in.
+ * Nodes come from a pool, are split when they hold more than the max amount of objects, and are merged back
+ * into their parent once their objects leave. {@link #clear()} only throws out entities that were not
+ * inserted again since the last clear.
+ */
+public class LooseQuadTree implements Broadphase {
+    private final int MAX_OBJECTS, MAX_LEVELS;
+    private final float LOOSENESS;
+    private final Node ROOT;
+    private final ObjectMap<Entity, Entry> ENTRIES;
+    private final Pool<Node> NODE_POOL;
+    private final Pool<Entry> ENTRY_POOL;
+    private int generation;
+
+    /**
+     * Creates a tree that covers the specified bounds.
+     *
+     * @param boundary   the area of the world the tree covers
+     * @param maxObjects the amount of objects a node can hold before it splits
+     * @param maxLevels  the deepest level a node can split down to
+     * @param looseness  how much bigger the loose bounds of each node are than its actual bounds, at least 1
+     */
+    public LooseQuadTree(Rectangle boundary, int maxObjects, int maxLevels, float looseness) {
+        MAX_OBJECTS = maxObjects;
+        MAX_LEVELS = maxLevels;
+        LOOSENESS = Math.max(looseness, 1);
+        ENTRIES = new ObjectMap<>();
+
+        NODE_POOL = new Pool<Node>() {
+            @Override
+            protected Node newObject() {
+                return new Node();
+            }
+        };
+        ENTRY_POOL = new Pool<Entry>() {
+            @Override
+            protected Entry newObject() {
+                return new Entry();
+            }
+        };
+
+        ROOT = NODE_POOL.obtain();
+        ROOT.set(null, 0, boundary.x, boundary.y, boundary.width, boundary.height);
+    }
+
+    /**
+     * Creates a tree that covers the specified bounds, with the same limits as {@link QuadTree}
+     * and loose bounds twice the size of each node.
+     *
+     * @param boundary the area of the world the tree covers
+     */
+    public LooseQuadTree(Rectangle boundary) {
+        this(boundary, 3, 6, 2);
+    }
+
+    /**
+     * Throws out every {@link Entity} that was not inserted since the last clear, and merges any nodes that
+     * no longer need to be split. Everything else stays where it is.
+     */
+    @Override
+    public void clear() {
+        ObjectMap.Values<Entry> values = ENTRIES.values();
+        while (values.hasNext()) {
+            Entry entry = values.next();
+
+            if (entry.generation != generation) {
+                entry.node.OBJECTS.removeValue(entry, true);
+                values.remove();
+                ENTRY_POOL.free(entry);
+            }
+        }
+
+        collapse(ROOT);
+        generation++;
+    }
+
+    /**
+     * Inserts the {@link Entity}, or updates it in place if it was already in the tree.
+     *
+     * @param entity the {@code Entity} to place into the tree
+     */
+    @Override
+    public void insert(Entity entity) {
+        Entry entry = ENTRIES.get(entity);
+        boolean isNew = entry == null;
+
+        if (isNew) {
+            entry = ENTRY_POOL.obtain();
+            entry.entity = entity;
+            ENTRIES.put(entity, entry);
+        }
+
+        entry.set(Mapper.COLLIDER.get(entity));
+        entry.generation = generation;
+
+        if (isNew) {
+            insert(ROOT, entry);
+            return;
+        }
+
+        // Still fits where it is, and can't go any deeper
+        Node node = entry.node;
+        if (node.looseContains(entry) && (node.leaf || !node.children[node.indexOf(entry)].looseContains(entry)))
+            return;
+
+        node.OBJECTS.removeValue(entry, true);
+
+        // Climb up until it fits again, then work back down
+        while (node.parent != null && !node.looseContains(entry))
+            node = node.parent;
+
+        insert(node, entry);
+    }
+
+    /**
+     * Places an entry in the deepest node under the specified one that can hold it.
+     */
+    private void insert(Node node, Entry entry) {
+        while (!node.leaf) {
+            Node child = node.children[node.indexOf(entry)];
+
+            if (!child.looseContains(entry))
+                break;
+
+            node = child;
+        }
+
+        entry.node = node;
+        node.OBJECTS.add(entry);
+
+        if (node.leaf && node.OBJECTS.size > MAX_OBJECTS && node.level < MAX_LEVELS)
+            split(node);
+    }
+
+    /**
+     * Gives a node four children and moves down every object that fits into one of them.
+     */
+    private void split(Node node) {
+        float
+            subWidth = node.width / 2f,
+            subHeight = node.height / 2f;
+
+        node.leaf = false;
+        for (int i = 0; i < 4; i++)
+            node.children[i] = NODE_POOL.obtain();
+
+        // Index of each zone follow coordinate grid conventions
+        node.children[0].set(node, node.level + 1, node.x + subWidth, node.y + subHeight, subWidth, subHeight);
+        node.children[1].set(node, node.level + 1, node.x, node.y + subHeight, subWidth, subHeight);
+        node.children[2].set(node, node.level + 1, node.x, node.y, subWidth, subHeight);
+        node.children[3].set(node, node.level + 1, node.x + subWidth, node.y, subWidth, subHeight);
+
+        int i = 0;
+        while (i < node.OBJECTS.size) {
+            Entry entry = node.OBJECTS.get(i);
+            Node child = node.children[node.indexOf(entry)];
+
+            if (child.looseContains(entry)) {
+                node.OBJECTS.removeIndex(i);
+                entry.node = child;
+                child.OBJECTS.add(entry);
+            } else
+                i++;
+        }
+
+        for (Node child : node.children) {
+            if (child.OBJECTS.size > MAX_OBJECTS && child.level < MAX_LEVELS)
+                split(child);
+        }
+    }
+
+    /**
+     * Merges any children that hold few enough objects back into their parent.
+     *
+     * @return the amount of objects in the node and everything under it
+     */
+    private int collapse(Node node) {
+        int total = node.OBJECTS.size;
+
+        if (node.leaf)
+            return total;
+
+        for (Node child : node.children)
+            total += collapse(child);
+
+        if (total <= MAX_OBJECTS) {
+            for (Node child : node.children) {
+                for (Entry entry : child.OBJECTS) {
+                    entry.node = node;
+                    node.OBJECTS.add(entry);
+                }
+
+                NODE_POOL.free(child);
+            }
+
+            node.leaf = true;
+        }
+
+        return total;
+    }
+
+    /**
+     * Gets every {@link Entity} inserted since the last clear whose bounding box overlaps that of the specified one.
+     *
+     * @param possibleCollisions the {@code Array<Entity>} to add the possible collisions to
+     * @param entity             the {@code Entity} to check for collisions
+     * @return the given {@code Array<Entity>}
+     */
+    @Override
+    public Array<Entity> retrieve(Array<Entity> possibleCollisions, Entity entity) {
+        Entry entry = ENTRIES.get(entity);
+
+        if (entry != null)
+            retrieve(ROOT, possibleCollisions, entry.minX, entry.minY, entry.maxX, entry.maxY);
+        else {
+            ColliderComponent body = Mapper.COLLIDER.get(entity);
+            retrieve(ROOT, possibleCollisions, body.minX, body.minY, body.maxX, body.maxY);
+        }
+
+        return possibleCollisions;
+    }
+
+    @Override
+    public Array<Entity> query(float minX, float minY, float maxX, float maxY, Array<Entity> out) {
+        retrieve(ROOT, out, minX, minY, maxX, maxY);
+        return out;
+    }
+
+    private void retrieve(Node node, Array<Entity> out, float minX, float minY, float maxX, float maxY) {
+        for (Entry entry : node.OBJECTS) {
+            if (entry.generation == generation && entry.overlaps(minX, minY, maxX, maxY))
+                out.add(entry.entity);
+        }
+
+        if (!node.leaf) {
+            for (Node child : node.children) {
+                if (child.looseOverlaps(minX, minY, maxX, maxY))
+                    retrieve(child, out, minX, minY, maxX, maxY);
+            }
+        }
+    }
+
+    /**
+     * Debug draw method
+     */
+    @Override
+    public void draw(ShapeRenderer DEBUG) {
+        DEBUG.set(ShapeRenderer.ShapeType.Line);
+        DEBUG.setColor(Color.PINK);
+        draw(ROOT, DEBUG);
+    }
+
+    private void draw(Node node, ShapeRenderer DEBUG) {
+        DEBUG.rect(node.x, node.y, node.width, node.height);
+
+        if (!node.leaf) {
+            for (Node child : node.children)
+                draw(child, DEBUG);
+        }
+    }
+
+    /**
+     * One node of the tree, along with the bounds that its objects are allowed to spill out into.
+     */
+    private class Node implements Pool.Poolable {
+        final Array<Entry> OBJECTS = new Array<>(false, 8);
+        final Node[] children = new Node[4];
+        Node parent;
+        boolean leaf = true;
+        int level;
+        float x, y, width, height;
+        float looseMinX, looseMinY, looseMaxX, looseMaxY;
+
+        void set(Node parent, int level, float x, float y, float width, float height) {
+            this.parent = parent;
+            this.level = level;
+            this.x = x;
+            this.y = y;
+            this.width = width;
+            this.height = height;
+
+            float
+                padX = width * (LOOSENESS - 1) / 2f,
+                padY = height * (LOOSENESS - 1) / 2f;
+
+            looseMinX = x - padX;
+            looseMinY = y - padY;
+            looseMaxX = x + width + padX;
+            looseMaxY = y + height + padY;
+        }
+
+        /**
+         * Gets the child whose actual bounds contain the center of the entry.
+         */
+        int indexOf(Entry entry) {
+            boolean
+                right = (entry.minX + entry.maxX) / 2f >= x + width / 2f,
+                top = (entry.minY + entry.maxY) / 2f >= y + height / 2f;
+
+            if (top)
+                return right ? 0 : 1;
+            else
+                return right ? 3 : 2;
+        }
+
+        boolean looseContains(Entry entry) {
+            return entry.minX >= looseMinX && entry.maxX <= looseMaxX && entry.minY >= looseMinY && entry.maxY <= looseMaxY;
+        }
+
+        boolean looseOverlaps(float minX, float minY, float maxX, float maxY) {
+            return minX <= looseMaxX && maxX >= looseMinX && minY <= looseMaxY && maxY >= looseMinY;
+        }
+
+        @Override
+        public void reset() {
+            if (!leaf) {
+                for (Node child : children)
+                    NODE_POOL.free(child);
+            }
+
+            OBJECTS.clear();
+            parent = null;
+            leaf = true;
+        }
+    }
+
+    /**
+     * An {@link Entity} in the tree along with its cached bounding box.
+     */
+    private static class Entry implements Pool.Poolable {
+        Entity entity;
+        Node node;
+        float minX, minY, maxX, maxY;
+        int generation;
+
+        void set(ColliderComponent collider) {
+            minX = collider.minX;
+            minY = collider.minY;
+            maxX = collider.maxX;
+            maxY = collider.maxY;
+        }
+
+        boolean overlaps(float minX, float minY, float maxX, float maxY) {
+            return minX <= this.maxX && maxX >= this.minX && minY <= this.maxY && maxY >= this.minY;
+        }
+
+        @Override
+        public void reset() {
+            entity = null;
+            node = null;
+        }
+    }
+}
@@ -0,0 +1,366 @@
+package com.coffee.util;
+
+import com.badlogic.gdx.math.Intersector;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Polygon;
+import com.coffee.entity.components.ColliderComponent;
+
+/**
+ * Exact overlap tests between two {@link ColliderComponent}s, dispatched on their {@link ColliderComponent.Shape}s.
+ * Circles, unrotated boxes and circles against segments are checked with plain arithmetic, circles against any other
+ * polygon with a separating axis test of their own, and anything else falls back to
+ * {@link Intersector#overlapConvexPolygons(float[], int, int, float[], int, int, Intersector.MinimumTranslationVector)}.
+ * <p>
+ * The resulting {@link Intersector.MinimumTranslationVector} always pushes the first collider out of the second,
+ * and is written into whatever vector is passed in, so none of the tests allocate. Every test reads the bounds and
+ * vertices cached by {@link ColliderComponent#update(float, float)}, so colliders have to be updated beforehand.
+ */
+public final class Narrowphase {
+    private Narrowphase() {}
+
+    /**
+     * Checks whether two colliders overlap.
+     *
+     * @param a   the first collider
+     * @param b   the second collider
+     * @param mtv the vector to write the separation of {@code a} from {@code b} into
+     * @return whether or not the colliders overlap
+     */
+    public static boolean overlaps(ColliderComponent a, ColliderComponent b, Intersector.MinimumTranslationVector mtv) {
+        final ColliderComponent.Shape
+            shapeA = shapeOf(a),
+            shapeB = shapeOf(b);
+
+        if (shapeA == ColliderComponent.Shape.CIRCLE) {
+            if (shapeB == ColliderComponent.Shape.CIRCLE)
+                return circleCircle(a, b, mtv);
+            if (shapeB == ColliderComponent.Shape.BOX)
+                return circleBox(a, b, mtv, false);
+            if (shapeB == ColliderComponent.Shape.SEGMENT)
+                return circleSegment(a, b, mtv, false);
+            if (shapeB == ColliderComponent.Shape.POLYGON)
+                return circlePolygon(a, b, mtv, false);
+        } else if (shapeA == ColliderComponent.Shape.BOX) {
+            if (shapeB == ColliderComponent.Shape.CIRCLE)
+                return circleBox(b, a, mtv, true);
+            if (shapeB == ColliderComponent.Shape.BOX)
+                return boxBox(a, b, mtv);
+        } else if (shapeA == ColliderComponent.Shape.SEGMENT) {
+            if (shapeB == ColliderComponent.Shape.CIRCLE)
+                return circleSegment(b, a, mtv, true);
+        } else if (shapeA == ColliderComponent.Shape.POLYGON) {
+            if (shapeB == ColliderComponent.Shape.CIRCLE)
+                return circlePolygon(b, a, mtv, true);
+        }
+
+        return Intersector.overlapConvexPolygons(a.vertices, 0, a.vertices.length, b.vertices, 0, b.vertices.length, mtv);
+    }
+
+    /**
+     * Casts a ray against a collider.
+     *
+     * @param c      the collider to cast against
+     * @param x      the x-coordinate the ray starts at
+     * @param y      the y-coordinate the ray starts at
+     * @param dirX   the x-component of the unit direction of the ray
+     * @param dirY   the y-component of the unit direction of the ray
+     * @param length how far the ray goes
+     * @return how far along the ray the collider was hit, 0 if the ray starts inside of it, or -1 if it was not hit
+     */
+    public static float raycast(ColliderComponent c, float x, float y, float dirX, float dirY, float length) {
+        if (c.prototype.TYPE == ColliderComponent.Shape.CIRCLE) {
+            float
+                r = c.prototype.RADIUS * c.BODY.getScaleX(),
+                ox = x - c.centerX,
+                oy = y - c.centerY,
+                b = ox * dirX + oy * dirY,
+                k = ox * ox + oy * oy - r * r;
+
+            if (k <= 0)
+                return 0;
+
+            float discriminant = b * b - k;
+            if (b > 0 || discriminant < 0)
+                return -1;
+
+            float t = -b - (float) Math.sqrt(discriminant);
+            return t <= length ? t : -1;
+        }
+
+        // Clip the ray against every edge of the convex polygon
+        final float[] VERTICES = c.vertices;
+        int n = VERTICES.length;
+        float centerX = 0, centerY = 0;
+
+        for (int i = 0; i < n; i += 2) {
+            centerX += VERTICES[i];
+            centerY += VERTICES[i + 1];
+        }
+        centerX /= n / 2;
+        centerY /= n / 2;
+
+        float
+            enter = 0,
+            exit = length;
+
+        for (int i = 0; i < n; i += 2) {
+            float
+                vx = VERTICES[i],
+                vy = VERTICES[i + 1],
+                nx = VERTICES[(i + 3) % n] - vy,
+                ny = vx - VERTICES[(i + 2) % n];
+
+            // Make the normal point out of the polygon
+            if (nx * (centerX - vx) + ny * (centerY - vy) > 0) {
+                nx = -nx;
+                ny = -ny;
+            }
+
+            float
+                distance = nx * (x - vx) + ny * (y - vy),
+                speed = nx * dirX + ny * dirY;
+
+            if (speed == 0) {
+                if (distance > 0)
+                    return -1;
+            } else {
+                float t = -distance / speed;
+
+                if (speed < 0)
+                    enter = Math.max(enter, t);
+                else
+                    exit = Math.min(exit, t);
+
+                if (enter > exit)
+                    return -1;
+            }
+        }
+
+        return enter;
+    }
+
+    /**
+     * Boxes only count as boxes while they are not rotated.
+     */
+    private static ColliderComponent.Shape shapeOf(ColliderComponent c) {
+        if (c.prototype.TYPE == ColliderComponent.Shape.BOX && c.BODY.getRotation() % 360 != 0)
+            return ColliderComponent.Shape.POLYGON;
+
+        return c.prototype.TYPE;
+    }
+
+    private static boolean circleCircle(ColliderComponent a, ColliderComponent b, Intersector.MinimumTranslationVector mtv) {
+        float
+            dx = a.centerX - b.centerX,
+            dy = a.centerY - b.centerY,
+            reach = a.prototype.RADIUS * a.BODY.getScaleX() + b.prototype.RADIUS * b.BODY.getScaleX(),
+            dst2 = dx * dx + dy * dy;
+
+        if (dst2 >= reach * reach)
+            return false;
+
+        float dst = (float) Math.sqrt(dst2);
+        if (dst == 0)
+            mtv.normal.set(0, 1);
+        else
+            mtv.normal.set(dx / dst, dy / dst);
+        mtv.depth = reach - dst;
+
+        return true;
+    }
+
+    /**
+     * Checks a circle against a box. If {@code boxFirst}, the vector separates the box from the circle instead.
+     */
+    private static boolean circleBox(ColliderComponent circle, ColliderComponent box, Intersector.MinimumTranslationVector mtv, boolean boxFirst) {
+        float
+            cx = circle.centerX,
+            cy = circle.centerY,
+            r = circle.prototype.RADIUS * circle.BODY.getScaleX(),
+            nearX = Math.max(box.minX, Math.min(cx, box.maxX)),
+            nearY = Math.max(box.minY, Math.min(cy, box.maxY)),
+            dx = cx - nearX,
+            dy = cy - nearY,
+            dst2 = dx * dx + dy * dy;
+
+        if (dst2 >= r * r)
+            return false;
+
+        if (dst2 > 0) {
+            // Center is outside of the box, push away from the nearest point
+            float dst = (float) Math.sqrt(dst2);
+            mtv.normal.set(dx / dst, dy / dst);
+            mtv.depth = r - dst;
+        } else {
+            // Center is inside of the box, push out through the closest side
+            float
+                left = cx - box.minX,
+                right = box.maxX - cx,
+                bottom = cy - box.minY,
+                top = box.maxY - cy,
+                min = Math.min(Math.min(left, right), Math.min(bottom, top));
+
+            if (min == left)
+                mtv.normal.set(-1, 0);
+            else if (min == right)
+                mtv.normal.set(1, 0);
+            else if (min == bottom)
+                mtv.normal.set(0, -1);
+            else
+                mtv.normal.set(0, 1);
+            mtv.depth = min + r;
+        }
+
+        if (boxFirst)
+            mtv.normal.scl(-1);
+
+        return true;
+    }
+
+    /**
+     * Checks a circle against a thick segment. If {@code segmentFirst}, the vector separates the segment from the circle instead.
+     */
+    private static boolean circleSegment(ColliderComponent circle, ColliderComponent segment, Intersector.MinimumTranslationVector mtv, boolean segmentFirst) {
+        final Polygon S = segment.BODY;
+
+        float
+            cx = circle.centerX,
+            cy = circle.centerY,
+            startX = segment.centerX,
+            startY = segment.centerY,
+            dirX = MathUtils.cosDeg(S.getRotation()),
+            dirY = MathUtils.sinDeg(S.getRotation()),
+            along = MathUtils.clamp((cx - startX) * dirX + (cy - startY) * dirY, 0, S.getScaleX()),
+            dx = cx - (startX + dirX * along),
+            dy = cy - (startY + dirY * along),
+            reach = circle.prototype.RADIUS * circle.BODY.getScaleX() + segment.prototype.RADIUS * S.getScaleY(),
+            dst2 = dx * dx + dy * dy;
+
+        if (dst2 >= reach * reach)
+            return false;
+
+        float dst = (float) Math.sqrt(dst2);
+        if (dst == 0)
+            mtv.normal.set(-dirY, dirX);
+        else
+            mtv.normal.set(dx / dst, dy / dst);
+        mtv.depth = reach - dst;
+
+        if (segmentFirst)
+            mtv.normal.scl(-1);
+
+        return true;
+    }
+
+    /**
+     * Checks a circle against a convex polygon, on the normal of every edge and on the axis from the closest vertex to
+     * the center of the circle. If {@code polygonFirst}, the vector separates the polygon from the circle instead.
+     */
+    private static boolean circlePolygon(ColliderComponent circle, ColliderComponent polygon, Intersector.MinimumTranslationVector mtv, boolean polygonFirst) {
+        final float[] VERTICES = polygon.vertices;
+        final int N = VERTICES.length;
+
+        float
+            cx = circle.centerX,
+            cy = circle.centerY,
+            r = circle.prototype.RADIUS * circle.BODY.getScaleX(),
+            closestX = VERTICES[0],
+            closestY = VERTICES[1],
+            closest2 = Float.MAX_VALUE;
+
+        for (int i = 0; i < N; i += 2) {
+            float
+                dx = cx - VERTICES[i],
+                dy = cy - VERTICES[i + 1],
+                dst2 = dx * dx + dy * dy;
+
+            if (dst2 < closest2) {
+                closest2 = dst2;
+                closestX = VERTICES[i];
+                closestY = VERTICES[i + 1];
+            }
+        }
+
+        float
+            depth = Float.MAX_VALUE,
+            normalX = 0,
+            normalY = 1;
+
+        // Every edge, then the closest vertex
+        for (int i = 0; i <= N; i += 2) {
+            float axisX, axisY;
+
+            if (i < N) {
+                axisX = VERTICES[(i + 3) % N] - VERTICES[i + 1];
+                axisY = VERTICES[i] - VERTICES[(i + 2) % N];
+            } else {
+                axisX = cx - closestX;
+                axisY = cy - closestY;
+            }
+
+            float len = (float) Math.sqrt(axisX * axisX + axisY * axisY);
+            if (len == 0)
+                continue;
+            axisX /= len;
+            axisY /= len;
+
+            float
+                min = Float.MAX_VALUE,
+                max = -Float.MAX_VALUE,
+                center = cx * axisX + cy * axisY;
+
+            for (int j = 0; j < N; j += 2) {
+                float p = VERTICES[j] * axisX + VERTICES[j + 1] * axisY;
+
+                min = Math.min(min, p);
+                max = Math.max(max, p);
+            }
+
+            // How far the circle has to go along the axis, either way, to stop touching the polygon
+            float
+                forward = max - (center - r),
+                backward = (center + r) - min;
+
+            if (forward <= 0 || backward <= 0)
+                return false;
+
+            if (forward < depth) {
+                depth = forward;
+                normalX = axisX;
+                normalY = axisY;
+            }
+            if (backward < depth) {
+                depth = backward;
+                normalX = -axisX;
+                normalY = -axisY;
+            }
+        }
+
+        mtv.normal.set(normalX, normalY);
+        mtv.depth = depth;
+
+        if (polygonFirst)
+            mtv.normal.scl(-1);
+
+        return true;
+    }
+
+    private static boolean boxBox(ColliderComponent a, ColliderComponent b, Intersector.MinimumTranslationVector mtv) {
+        float
+            overlapX = Math.min(a.maxX, b.maxX) - Math.max(a.minX, b.minX),
+            overlapY = Math.min(a.maxY, b.maxY) - Math.max(a.minY, b.minY);
+
+        if (overlapX <= 0 || overlapY <= 0)
+            return false;
+
+        if (overlapX < overlapY) {
+            mtv.normal.set(a.centerX < b.centerX ? -1 : 1, 0);
+            mtv.depth = overlapX;
+        } else {
+            mtv.normal.set(0, a.centerY < b.centerY ? -1 : 1);
+            mtv.depth = overlapY;
+        }
+
+        return true;
+    }
+}
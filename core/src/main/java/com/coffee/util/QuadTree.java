@@ -15,7 +15,7 @@ import com.coffee.entity.components.ColliderComponent;
  *
  * @author Phillip O'Reggio
  */
-public class QuadTree {
+public class QuadTree implements Broadphase {
     private final int MAX_LEVELS = 6;
     private final int MAX_OBJECTS = 3;
 
@@ -40,6 +40,7 @@ public class QuadTree {
     /**
      * Recursively clears the entire {@link QuadTree}.
      */
+    @Override
     public void clear() {
         objects.clear();
 
@@ -78,21 +79,21 @@ public class QuadTree {
         int index = -1;
         float verticalMid = bounds.getX() + bounds.getWidth() / 2f;
         float horizontalMid = bounds.getY() + bounds.getHeight() / 2f;
-        final Rectangle BODY = Mapper.COLLIDER.get(entity).BODY.getBoundingRectangle();
+        final ColliderComponent BODY = Mapper.COLLIDER.get(entity);
 
         // Check if it can fit into either the top quadrants or bottom quadrants.
-        boolean inTopQuadrant = (BODY.getY() > horizontalMid && BODY.getY() + BODY.getHeight() > horizontalMid);
-        boolean inBottomQuadrant = (BODY.getY() < horizontalMid && BODY.getY() + BODY.getHeight() < horizontalMid);
+        boolean inTopQuadrant = (BODY.minY > horizontalMid && BODY.maxY > horizontalMid);
+        boolean inBottomQuadrant = (BODY.minY < horizontalMid && BODY.maxY < horizontalMid);
 
         // Check if it can fit into either right-side quadrants.
-        if (BODY.getX() > verticalMid) {
+        if (BODY.minX > verticalMid) {
             if (inTopQuadrant)
                 index = 0;
             else if (inBottomQuadrant)
                 index = 3;
         }
         // Check if it can fit into either left-side quadrants.
-        else if (BODY.getX() < verticalMid && BODY.getX() + BODY.getWidth() < verticalMid) {
+        else if (BODY.minX < verticalMid && BODY.maxX < verticalMid) {
             if (inTopQuadrant)
                 index = 1;
             else if (inBottomQuadrant)
@@ -110,6 +111,7 @@ public class QuadTree {
      *
      * @param entity the {@code Entity} to place into the {@code Quadtree}.
      */
+    @Override
     public void insert(Entity entity) {
         // If this node has subnodes,
         // try to see if it can fit into any of them.
@@ -150,6 +152,7 @@ public class QuadTree {
      * @param entity the {@code Entity} to check for collisions
      * @return an {@code Array<Entity>} of all the entities that could be colliding with the specified {@code Entity}
      */
+    @Override
     public Array<Entity> retrieve(Array<Entity> possibleCollisions, Entity entity) {
         int index = getIndex(entity);
 
@@ -162,9 +165,32 @@ public class QuadTree {
         return possibleCollisions;
     }
 
+    @Override
+    public Array<Entity> query(float minX, float minY, float maxX, float maxY, Array<Entity> out) {
+        for (Entity e : objects) {
+            final ColliderComponent BODY = Mapper.COLLIDER.get(e);
+
+            if (BODY.minX <= maxX && BODY.maxX >= minX && BODY.minY <= maxY && BODY.maxY >= minY)
+                out.add(e);
+        }
+
+        // Everything in a subnode fits completely inside of it, so only look at the ones the area touches
+        if (nodes[0] != null) {
+            for (QuadTree node : nodes) {
+                final Rectangle NODE = node.bounds;
+
+                if (NODE.x <= maxX && NODE.x + NODE.width >= minX && NODE.y <= maxY && NODE.y + NODE.height >= minY)
+                    node.query(minX, minY, maxX, maxY, out);
+            }
+        }
+
+        return out;
+    }
+
     /**
      * Debug draw method
      */
+    @Override
     public void draw(ShapeRenderer DEBUG) {
         DEBUG.set(ShapeRenderer.ShapeType.Line);
         DEBUG.setColor(Color.PINK);
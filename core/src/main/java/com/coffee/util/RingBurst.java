@@ -0,0 +1,46 @@
+package com.coffee.util;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.gdx.math.MathUtils;
+
+/**
+ * {@link BurstInitializer} that spreads a burst out in a ring around a point, each entity a step of angle further
+ * around than the last. The point and the angles are set with {@link #set(float, float, float, float, float)} right
+ * before each burst, so one {@code RingBurst} can be kept and reused for every volley instead of making a new
+ * initializer each time.
+ */
+public abstract class RingBurst implements BurstInitializer {
+    private float x, y, distance, start, step;
+
+    /**
+     * @param x        the x-coordinate of the center of the ring
+     * @param y        the y-coordinate of the center of the ring
+     * @param distance how far from the center each entity starts
+     * @param start    the angle of the first entity, in degrees
+     * @param step     how much further around each entity is than the last, in degrees
+     * @return this ring for chaining
+     */
+    public RingBurst set(float x, float y, float distance, float start, float step) {
+        this.x = x;
+        this.y = y;
+        this.distance = distance;
+        this.start = start;
+        this.step = step;
+        return this;
+    }
+
+    @Override
+    public Entity create(int index) {
+        final float DEG = start + index * step;
+
+        return createAt(x + distance * MathUtils.cosDeg(DEG), y + distance * MathUtils.sinDeg(DEG), DEG);
+    }
+
+    /**
+     * @param x   the x-coordinate of the entity
+     * @param y   the y-coordinate of the entity
+     * @param deg the angle of the entity around the ring, in degrees
+     * @return the new {@link Entity}, not yet added to the engine, or null to skip this one
+     */
+    protected abstract Entity createAt(float x, float y, float deg);
+}
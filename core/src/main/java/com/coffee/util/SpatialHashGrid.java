@@ -0,0 +1,151 @@
+package com.coffee.util;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectSet;
+import com.coffee.entity.components.ColliderComponent;
+
+/**
+ * {@link Broadphase} that splits the world into a uniform grid of equally sized cells.
+ * Every {@link Entity} is stored in each cell that its {@link ColliderComponent} overlaps,
+ * so lookups only ever look at the handful of cells around a collider instead of walking a tree.
+ * Bodies that reach outside of the grid are also kept in an overflow cell so off-screen bodies
+ * can still find each other.
+ */
+public class SpatialHashGrid implements Broadphase {
+    private final float X, Y, CELL_SIZE;
+    private final int COLUMNS, ROWS;
+    private final Array<Entity>[] CELLS;
+    private final Array<Entity> OVERFLOW;
+    private final ObjectSet<Entity> FOUND;
+
+    /**
+     * Creates a grid that covers the specified bounds.
+     *
+     * @param boundary the area of the world the grid covers
+     * @param cellSize the width and height of each cell
+     */
+    @SuppressWarnings("unchecked")
+    public SpatialHashGrid(Rectangle boundary, float cellSize) {
+        X = boundary.getX();
+        Y = boundary.getY();
+        CELL_SIZE = cellSize;
+        COLUMNS = MathUtils.ceil(boundary.getWidth() / cellSize);
+        ROWS = MathUtils.ceil(boundary.getHeight() / cellSize);
+
+        CELLS = (Array<Entity>[]) new Array<?>[COLUMNS * ROWS];
+        for (int i = 0; i < CELLS.length; i++)
+            CELLS[i] = new Array<>(false, 8);
+
+        OVERFLOW = new Array<>(false, 16);
+        FOUND = new ObjectSet<>();
+    }
+
+    @Override
+    public void clear() {
+        for (Array<Entity> cell : CELLS)
+            cell.clear();
+
+        OVERFLOW.clear();
+    }
+
+    @Override
+    public void insert(Entity entity) {
+        final ColliderComponent BODY = Mapper.COLLIDER.get(entity);
+
+        int
+            minCol = column(BODY.minX),
+            maxCol = column(BODY.maxX),
+            minRow = row(BODY.minY),
+            maxRow = row(BODY.maxY);
+
+        // Anything that pokes out of the grid also lives in the overflow cell.
+        if (minCol < 0 || minRow < 0 || maxCol >= COLUMNS || maxRow >= ROWS)
+            OVERFLOW.add(entity);
+
+        minCol = Math.max(minCol, 0);
+        minRow = Math.max(minRow, 0);
+        maxCol = Math.min(maxCol, COLUMNS - 1);
+        maxRow = Math.min(maxRow, ROWS - 1);
+
+        for (int row = minRow; row <= maxRow; row++) {
+            for (int col = minCol; col <= maxCol; col++)
+                CELLS[row * COLUMNS + col].add(entity);
+        }
+    }
+
+    @Override
+    public Array<Entity> retrieve(Array<Entity> possibleCollisions, Entity entity) {
+        final ColliderComponent BODY = Mapper.COLLIDER.get(entity);
+
+        return query(BODY.minX, BODY.minY, BODY.maxX, BODY.maxY, possibleCollisions);
+    }
+
+    @Override
+    public Array<Entity> query(float minX, float minY, float maxX, float maxY, Array<Entity> out) {
+        int
+            minCol = column(minX),
+            maxCol = column(maxX),
+            minRow = row(minY),
+            maxRow = row(maxY);
+
+        FOUND.clear();
+
+        if (minCol < 0 || minRow < 0 || maxCol >= COLUMNS || maxRow >= ROWS)
+            collect(OVERFLOW, out, minX, minY, maxX, maxY);
+
+        minCol = Math.max(minCol, 0);
+        minRow = Math.max(minRow, 0);
+        maxCol = Math.min(maxCol, COLUMNS - 1);
+        maxRow = Math.min(maxRow, ROWS - 1);
+
+        for (int row = minRow; row <= maxRow; row++) {
+            for (int col = minCol; col <= maxCol; col++)
+                collect(CELLS[row * COLUMNS + col], out, minX, minY, maxX, maxY);
+        }
+
+        return out;
+    }
+
+    /**
+     * Adds every {@link Entity} in the cell that overlaps the area and has not already been found during this lookup.
+     */
+    private void collect(Array<Entity> cell, Array<Entity> out, float minX, float minY, float maxX, float maxY) {
+        for (int i = 0; i < cell.size; i++) {
+            Entity e = cell.get(i);
+            final ColliderComponent BODY = Mapper.COLLIDER.get(e);
+
+            if (BODY.minX <= maxX && BODY.maxX >= minX && BODY.minY <= maxY && BODY.maxY >= minY && FOUND.add(e))
+                out.add(e);
+        }
+    }
+
+    private int column(float x) {
+        return MathUtils.floor((x - X) / CELL_SIZE);
+    }
+
+    private int row(float y) {
+        return MathUtils.floor((y - Y) / CELL_SIZE);
+    }
+
+    @Override
+    public void draw(ShapeRenderer DEBUG) {
+        DEBUG.set(ShapeRenderer.ShapeType.Line);
+        DEBUG.setColor(Color.PINK);
+
+        for (int row = 0; row < ROWS; row++) {
+            for (int col = 0; col < COLUMNS; col++) {
+                if (CELLS[row * COLUMNS + col].size > 0)
+                    DEBUG.rect(X + col * CELL_SIZE, Y + row * CELL_SIZE, CELL_SIZE, CELL_SIZE);
+            }
+        }
+    }
+
+    public String toString() {
+        return "Cells: " + COLUMNS + "x" + ROWS + " Overflow: " + OVERFLOW.size;
+    }
+}
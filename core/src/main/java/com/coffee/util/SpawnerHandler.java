@@ -1,12 +1,17 @@
 package com.coffee.util;
 
-import com.badlogic.ashley.core.Entity;
-import com.badlogic.gdx.utils.Array;
+import com.coffee.entity.CommandBuffer;
 
 /**
+ * Interface for what a spawner makes when its timer runs out.
+ *
  * @author Jared Tulayan
  */
 @FunctionalInterface
 public interface SpawnerHandler {
-    public Array<Entity> getSpawnEntity();
+    /**
+     * @param count    how many times the timer ran out since last frame, so how many times to spawn
+     * @param commands the {@link CommandBuffer} to spawn the new entities with
+     */
+    public void spawn(int count, CommandBuffer commands);
 }
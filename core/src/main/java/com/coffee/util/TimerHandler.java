@@ -0,0 +1,15 @@
+package com.coffee.util;
+
+import com.badlogic.ashley.core.Engine;
+import com.badlogic.ashley.core.Entity;
+
+/**
+ * Interface for what happens when a {@link TimingWheel.Timer} runs out.
+ */
+public interface TimerHandler {
+    /**
+     * @param entity the {@link Entity} the timer was started for
+     * @param engine the {@link Engine} the timer ran out in
+     */
+    public void expire(Entity entity, Engine engine);
+}
@@ -0,0 +1,159 @@
+package com.coffee.util;
+
+import com.badlogic.ashley.core.Engine;
+import com.badlogic.ashley.core.Entity;
+
+/**
+ * Hierarchical timing wheel that fires {@link Timer}s when they run out. Time is counted in ticks of {@link #TICK} seconds,
+ * and each of the {@link #LEVELS} wheels has 64 slots, each slot covering 64 times as many ticks as a
+ * slot of the wheel below it. A timer goes into the lowest wheel that can reach it, and moves down a wheel every time the
+ * slot it is in comes up, so advancing the clock only ever touches the timers that are about to run out.
+ * <p>
+ * Timers are linked straight into the slots, so the owner of a timer keeps it around and scheduling or cancelling it
+ * doesn't allocate anything.
+ */
+public class TimingWheel {
+    public static final float TICK = 1 / 120f;
+    public static final int LEVELS = 4;
+    private static final int BITS = 6, SLOTS = 1 << BITS, MASK = SLOTS - 1;
+    private static final long MAX_TICKS = (1L << (BITS * LEVELS)) - 1;
+
+    private final Timer[][] WHEELS = new Timer[LEVELS][SLOTS];
+    private long now;
+    private float accumulator;
+    private int size;
+
+    public TimingWheel() {
+        for (Timer[] wheel : WHEELS) {
+            for (int i = 0; i < SLOTS; i++)
+                wheel[i] = new Timer();
+        }
+    }
+
+    /**
+     * Starts the timer over, running out after the specified amount of time. The timer is taken out of the wheel first if it is already in it.
+     *
+     * @param timer   the {@link Timer} to start
+     * @param seconds how long until it runs out
+     * @param entity  the {@link Entity} to pass to the handler
+     * @param handler what to do when it runs out
+     */
+    public void schedule(Timer timer, float seconds, Entity entity, TimerHandler handler) {
+        timer.cancel();
+
+        long ticks = Math.max(1, Math.min(MAX_TICKS, (long) Math.ceil(seconds / TICK)));
+
+        timer.deadline = now + ticks;
+        timer.entity = entity;
+        timer.handler = handler;
+        timer.wheel = this;
+        insert(timer);
+        size++;
+    }
+
+    /**
+     * Moves the clock forward, firing every timer that runs out on the way in order.
+     *
+     * @param deltaTime the amount of time passed since last frame
+     * @param engine    the {@link Engine} to pass to the handlers
+     */
+    public void advance(float deltaTime, Engine engine) {
+        accumulator += deltaTime;
+
+        while (accumulator >= TICK) {
+            accumulator -= TICK;
+            now++;
+
+            // Whenever a wheel comes back around, bring the next slot of the wheel above it down
+            for (int level = 1; level < LEVELS && ((now >> (BITS * (level - 1))) & MASK) == 0; level++) {
+                final Timer SENTINEL = WHEELS[level][(int) ((now >> (BITS * level)) & MASK)];
+
+                while (SENTINEL.next != SENTINEL) {
+                    Timer timer = SENTINEL.next;
+                    timer.unlink();
+                    insert(timer);
+                }
+            }
+
+            if (size > 0) {
+                final Timer SENTINEL = WHEELS[0][(int) (now & MASK)];
+
+                while (SENTINEL.next != SENTINEL) {
+                    Timer timer = SENTINEL.next;
+                    Entity entity = timer.entity;
+                    TimerHandler handler = timer.handler;
+
+                    timer.cancel();
+                    handler.expire(entity, engine);
+                }
+            }
+        }
+    }
+
+    /**
+     * @return how many timers are waiting to run out
+     */
+    public int size() {
+        return size;
+    }
+
+    private void insert(Timer timer) {
+        long delta = Math.max(timer.deadline - now, 0);
+        int level = 0;
+
+        while (level < LEVELS - 1 && delta >= 1L << (BITS * (level + 1)))
+            level++;
+
+        final Timer SENTINEL = WHEELS[level][(int) ((timer.deadline >> (BITS * level)) & MASK)];
+
+        timer.prev = SENTINEL.prev;
+        timer.next = SENTINEL;
+        SENTINEL.prev.next = timer;
+        SENTINEL.prev = timer;
+    }
+
+    /**
+     * A countdown that can be put in a {@link TimingWheel}. Components that need one should create it once and keep it,
+     * and {@link #cancel()} it when they are reset.
+     */
+    public static class Timer {
+        private Timer prev = this, next = this;
+        private long deadline;
+        private Entity entity;
+        private TimerHandler handler;
+        private TimingWheel wheel;
+
+        /**
+         * @return whether or not this timer is counting down
+         */
+        public boolean isScheduled() {
+            return wheel != null;
+        }
+
+        /**
+         * @return how many seconds are left before this timer runs out, or 0 if it isn't counting down
+         */
+        public float getRemaining() {
+            return wheel == null ? 0 : (deadline - wheel.now) * TICK - wheel.accumulator;
+        }
+
+        /**
+         * Takes this timer out of its wheel without firing it.
+         */
+        public void cancel() {
+            if (wheel != null) {
+                wheel.size--;
+                wheel = null;
+                unlink();
+            }
+            entity = null;
+            handler = null;
+        }
+
+        private void unlink() {
+            prev.next = next;
+            next.prev = prev;
+            prev = next = this;
+        }
+    }
+}